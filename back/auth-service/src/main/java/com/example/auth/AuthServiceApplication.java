@@ -1,13 +1,25 @@
 package com.example.auth;
 
+import com.example.common.config.MetricsConfig;
+import com.example.common.config.RequestIdConfig;
+import com.example.common.config.SmileWebConfig;
+import com.example.common.config.StartupConfig;
+import com.example.common.feign.FeignCodecConfig;
+import com.example.common.feign.FeignPoolMetricsConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.Import;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @SpringBootApplication
-@EnableFeignClients(basePackages = "com.example.auth.service")
+@EnableFeignClients(basePackages = "com.example.auth.service", defaultConfiguration = FeignCodecConfig.class)
+@Import({SmileWebConfig.class, MetricsConfig.class, RequestIdConfig.class, FeignPoolMetricsConfig.class, StartupConfig.class})
 public class AuthServiceApplication {
     public static void main(String[] args) {
-        SpringApplication.run(AuthServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(AuthServiceApplication.class);
+        // 记录启动各步骤耗时，完整时间线见 /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 } 
\ No newline at end of file
@@ -1,35 +1,44 @@
 package com.example.auth.config;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import java.lang.reflect.Method;
 
+// 必须先于事务拦截器执行：事务开始时就按当前 key 取连接
 @Aspect
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DataSourceAspect {
     @Pointcut("@annotation(org.springframework.transaction.annotation.Transactional)")
     public void transactionalMethods() {}
 
-    @Before("transactionalMethods()")
-    public void before(JoinPoint joinPoint) {
+    // 结束后恢复调用前的 key，嵌套调用 @Transactional 方法时不会清掉外层的选择
+    @Around("transactionalMethods()")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
         Transactional transactional = method.getAnnotation(Transactional.class);
+        String previous = DataSourceContextHolder.get();
         if (transactional != null && transactional.readOnly()) {
             DataSourceContextHolder.set("slave");
         } else {
             DataSourceContextHolder.set("master");
         }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                DataSourceContextHolder.clear();
+            } else {
+                DataSourceContextHolder.set(previous);
+            }
+        }
     }
-
-    @After("transactionalMethods()")
-    public void after() {
-        DataSourceContextHolder.clear();
-    }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.example.auth.config;
 
+// 每个请求线程各自持有路由 key；开启虚拟线程后每个请求一个虚拟线程，ThreadLocal 同样按请求隔离，
+// 但不会传递到 @Async 等其他线程上的任务，这些任务需自行标注 @Transactional 选择主从
 public class DataSourceContextHolder {
     private static final ThreadLocal<String> contextHolder = new ThreadLocal<>();
     public static void set(String key) { contextHolder.set(key); }
@@ -0,0 +1,41 @@
+package com.example.auth.config;
+
+import com.example.common.security.key.KeyProvider;
+import com.example.common.security.key.KeyStoreKeyProvider;
+import com.example.common.security.key.PemDirectoryKeyProvider;
+import com.example.common.security.key.RedisKeyProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Paths;
+
+/**
+ * 签名密钥来源：file（PEM 目录）、redis（Hash）或 keystore（PKCS12/JKS），多实例部署时指向同一来源
+ */
+@Configuration
+public class KeyProviderConfig {
+
+    @Bean
+    public KeyProvider keyProvider(@Value("${auth.keys.source:file}") String source,
+                                   @Value("${auth.keys.dir:keys}") String dir,
+                                   @Value("${auth.keys.redis-key:auth:keys}") String redisKey,
+                                   @Value("${auth.keys.keystore.path:}") String keystorePath,
+                                   @Value("${auth.keys.keystore.type:PKCS12}") String keystoreType,
+                                   @Value("${auth.keys.keystore.password:}") String keystorePassword,
+                                   @Value("${auth.keys.refresh-interval-seconds:60}") long refreshIntervalSeconds,
+                                   ObjectProvider<StringRedisTemplate> stringRedisTemplate) {
+        switch (source) {
+            case "redis":
+                return new RedisKeyProvider(stringRedisTemplate.getObject(), redisKey, refreshIntervalSeconds);
+            case "keystore":
+                return new KeyStoreKeyProvider(Paths.get(keystorePath), keystoreType, keystorePassword, refreshIntervalSeconds);
+            case "file":
+                return new PemDirectoryKeyProvider(Paths.get(dir), refreshIntervalSeconds);
+            default:
+                throw new IllegalArgumentException("不支持的密钥来源: " + source);
+        }
+    }
+}
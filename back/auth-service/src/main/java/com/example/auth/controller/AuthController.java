@@ -1,10 +1,20 @@
 package com.example.auth.controller;
 
+import com.alibaba.csp.sentinel.EntryType;
+import com.alibaba.csp.sentinel.annotation.SentinelResource;
+import com.alibaba.csp.sentinel.slots.block.BlockException;
 import com.example.auth.entity.EncryptedUserDTO;
 import com.example.auth.service.AuthService;
+import com.example.auth.service.TokenService;
 import com.example.common.Result;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import javax.crypto.Cipher;
@@ -24,8 +34,17 @@ public class AuthController {
     @Autowired
     private StringRedisTemplate stringRedisTemplate;
 
+    @Autowired
+    private TokenService tokenService;
+
+    @Value("${auth.token.cookie-secure:false}")
+    private boolean cookieSecure;
+
+    private static final String REFRESH_COOKIE = "refresh_token";
+
     @PostMapping("/login")
-    public Result login(@RequestBody EncryptedUserDTO encryptedUserDTO) {
+    @SentinelResource(value = "login", entryType = EntryType.IN, blockHandler = "loginBlocked")
+    public Result login(@RequestBody EncryptedUserDTO encryptedUserDTO, HttpServletResponse response) {
         try {
             // 1. 获取私钥
             KeyPair keyPair = authService.getKeyPair();
@@ -38,12 +57,70 @@ public class AuthController {
             if (token == null) {
                 return Result.error("用户名或密码错误");
             }
+            // 4. refresh token 写入 HttpOnly Cookie，响应体仍只返回 access token
+            setRefreshCookie(response, tokenService.issueRefreshToken(decryptedUsername), tokenService.getRefreshTtlSeconds());
             return Result.success(token);
         } catch (Exception e) {
             return Result.error("登录失败: " + e.getMessage());
         }
     }
 
+    // 系统过载时直接拒绝，不再做 RSA 解密和签名
+    public Result loginBlocked(EncryptedUserDTO encryptedUserDTO, HttpServletResponse response, BlockException e) {
+        return Result.error("系统繁忙，请稍后重试");
+    }
+
+    // 用 refresh token 换取新的 access token，refresh token 同时轮换
+    @PostMapping("/refresh")
+    public ResponseEntity<Result> refresh(@CookieValue(name = REFRESH_COOKIE, required = false) String refreshToken,
+                                          HttpServletResponse response) {
+        String username = refreshToken == null ? null : tokenService.consumeRefreshToken(refreshToken);
+        if (username == null) {
+            setRefreshCookie(response, "", 0);
+            return ResponseEntity.status(401).body(Result.error("登录已过期，请重新登录"));
+        }
+        setRefreshCookie(response, tokenService.issueRefreshToken(username), tokenService.getRefreshTtlSeconds());
+        return ResponseEntity.ok(Result.success(authService.issueAccessToken(username)));
+    }
+
+    // 注销当前 access token 和 refresh token；all=true 时同时作废该用户的所有 refresh token
+    @PostMapping("/logout")
+    public Result logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                         @CookieValue(name = REFRESH_COOKIE, required = false) String refreshToken,
+                         @RequestParam(defaultValue = "false") boolean all,
+                         HttpServletResponse response) {
+        String username = null;
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            Jwt jwt = tokenService.decodeAccessToken(authorization.substring(7));
+            if (jwt != null) {
+                tokenService.revokeAccessToken(jwt);
+                username = jwt.getSubject();
+            }
+        }
+        if (refreshToken != null) {
+            String owner = tokenService.consumeRefreshToken(refreshToken);
+            if (username == null) {
+                username = owner;
+            }
+        }
+        if (all && username != null) {
+            tokenService.revokeAllSessions(username);
+        }
+        setRefreshCookie(response, "", 0);
+        return Result.success("已退出登录");
+    }
+
+    private void setRefreshCookie(HttpServletResponse response, String value, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(REFRESH_COOKIE, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Strict")
+                .path("/auth")
+                .maxAge(maxAgeSeconds)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
     // 工具方法：用私钥解密
     private String rsaDecrypt(String base64Encrypted, PrivateKey privateKey) throws Exception {
         byte[] encryptedBytes = Base64.getDecoder().decode(base64Encrypted);
@@ -1,75 +1,230 @@
 package com.example.auth.service;
 
-import com.example.common.utils.RsaKeyTool;
+import com.example.common.security.key.KeyProvider;
+import com.example.common.security.key.ManagedKey;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.stereotype.Service;
 import java.security.KeyPair;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.annotation.Timed;
 import com.example.auth.service.UserClient;
 import com.example.common.Result;
+import com.example.common.dto.UserCredentials;
 
 @Service
 public class AuthService {
-    private static final String RSA_KEY_FILE_NAME = "demo-app-rsa.key";
-    private final KeyPair keyPair;
+    private static final List<String> ALGORITHMS = List.of("RS256", "ES256");
+
+    private final KeyProvider keyProvider;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final String signingKeyId;
+    // 由当前密钥派生的 JWK、签名器和验签器，密钥列表变化时才重建
+    private volatile KeySnapshot snapshot;
 
     @Autowired
     private UserClient userClient;
 
-    public AuthService() throws Exception {
-        this.keyPair = RsaKeyTool.getOrCreateKeyPair(RSA_KEY_FILE_NAME);
+    @Value("${auth.token.access-ttl-seconds:900}")
+    private long accessTtlSeconds;
+
+    // 渠道合作方、管理员账号：令牌带 scope user.import，可调用 user-service 批量导入
+    @Value("${auth.token.import-usernames:}")
+    private Set<String> importUsernames;
+
+    // 调用 user-service 登录校验接口用的服务令牌，过期前一分钟换新
+    private static final String SERVICE_SCOPE = "user.credentials";
+    private static final long SERVICE_TOKEN_TTL_SECONDS = 300;
+    private volatile ServiceToken serviceToken;
+
+    // 签名算法：RS256 或 ES256；所有有效公钥都发布在 /auth/jwk，切换或轮换期间旧令牌仍可验证
+    public AuthService(KeyProvider keyProvider,
+                       @Value("${auth.jwt.algorithm:ES256}") String algorithm,
+                       @Value("${auth.keys.signing-key-id:}") String signingKeyId) {
+        this.keyProvider = keyProvider;
+        this.signatureAlgorithm = SignatureAlgorithm.from(algorithm);
+        if (signatureAlgorithm == null || !ALGORITHMS.contains(algorithm)) {
+            throw new IllegalArgumentException("不支持的签名算法: " + algorithm);
+        }
+        this.signingKeyId = signingKeyId;
+        // RSA 密钥同时用于登录时解密用户名密码，始终需要
+        for (String name : ALGORITHMS) {
+            keyProvider.createIfMissing(name);
+        }
+        snapshot();
+    }
+
+    private KeySnapshot snapshot() {
+        List<ManagedKey> keys = keyProvider.getKeys();
+        KeySnapshot current = snapshot;
+        if (current == null || current.keys != keys) {
+            current = new KeySnapshot(keys, signatureAlgorithm.getName(), signingKeyId);
+            snapshot = current;
+        }
+        return current;
     }
 
     public RSAPublicKey getPublicKey() {
-        return (RSAPublicKey) this.keyPair.getPublic();
+        return (RSAPublicKey) getKeyPair().getPublic();
     }
 
+    // 对外发布的公钥集合（不含私钥）
     public JWKSet jwkSet() {
-        var rsaKey = new RSAKey.Builder(getPublicKey()).privateKey(this.keyPair.getPrivate()).build();
-        return new JWKSet(rsaKey);
+        return snapshot().publicJwkSet;
     }
 
     public JwtEncoder jwtEncoder() {
-        return new NimbusJwtEncoder(new ImmutableJWKSet<>(jwkSet()));
+        return snapshot().jwtEncoder;
+    }
+
+    // 按令牌头中的 kid/alg 选择公钥验签
+    public JwtDecoder jwtDecoder() {
+        return snapshot().jwtDecoder;
     }
 
     public String encodeJwt(JwtClaimsSet claims) {
-        return this.jwtEncoder().encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        KeySnapshot current = snapshot();
+        return current.jwtEncoder.encode(JwtEncoderParameters.from(current.jwsHeader, claims)).getTokenValue();
     }
 
+    @Timed(value = "auth.service", extraTags = {"method", "login"}, histogram = true)
     public String login(String username, String password) {
         // 远程调用 user-service 校验用户名密码
-        Result userResult = userClient.getUserByUsername(username);
+        Result<UserCredentials> userResult = userClient.getCredentials(username);
         if (userResult == null || userResult.getData() == null) {
             return null; // 用户不存在
         }
-        // 假设 userResult.getData() 是 Map，包含 password 字段
-        Object data = userResult.getData();
-        String realPassword = null;
-        if (data instanceof java.util.Map) {
-            realPassword = (String) ((java.util.Map) data).get("password");
-        }
+        String realPassword = userResult.getData().getPassword();
         if (realPassword == null || !realPassword.equals(password)) {
             return null; // 密码错误
         }
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        return issueAccessToken(username);
+    }
+
+    // 短有效期 access token，jti 用于注销
+    public String issueAccessToken(String username) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer("my-app")
                 .subject(username)
-                .issuedAt(Instant.now())
-                .expiresAt(Instant.now().plusSeconds(3600))
-                .build();
-        return encodeJwt(claims);
+                .id(UUID.randomUUID().toString())
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(accessTtlSeconds));
+        if (importUsernames.contains(username)) {
+            claims.claim("scope", "user.import");
+        }
+        return encodeJwt(claims.build());
+    }
+
+    // auth-service 自身的服务令牌，只带 scope user.credentials，不对应任何用户
+    public String issueServiceToken() {
+        ServiceToken current = serviceToken;
+        Instant now = Instant.now();
+        if (current == null || now.isAfter(current.expiresAt.minusSeconds(60))) {
+            Instant expiresAt = now.plusSeconds(SERVICE_TOKEN_TTL_SECONDS);
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .issuer("my-app")
+                    .subject("auth-service")
+                    .id(UUID.randomUUID().toString())
+                    .issuedAt(now)
+                    .expiresAt(expiresAt)
+                    .claim("scope", SERVICE_SCOPE)
+                    .build();
+            current = new ServiceToken(encodeJwt(claims), expiresAt);
+            serviceToken = current;
+        }
+        return current.value;
+    }
+
+    private record ServiceToken(String value, Instant expiresAt) {
     }
 
+    // 最新的 RSA 密钥，用于登录时解密用户名密码
     public KeyPair getKeyPair() {
-        return this.keyPair;
+        return snapshot().rsaKeyPair;
+    }
+
+    private static class KeySnapshot {
+        private final List<ManagedKey> keys;
+        private final JWKSet publicJwkSet;
+        private final JwtEncoder jwtEncoder;
+        private final JwsHeader jwsHeader;
+        private final JwtDecoder jwtDecoder;
+        private final KeyPair rsaKeyPair;
+
+        KeySnapshot(List<ManagedKey> keys, String algorithm, String signingKeyId) {
+            this.keys = keys;
+            List<JWK> jwks = new ArrayList<>();
+            JWK signingKey = null;
+            KeyPair rsa = null;
+            for (ManagedKey key : keys) {
+                JWK jwk = toJwk(key);
+                jwks.add(jwk);
+                // 未指定 signing-key-id 时用该算法下 keyId 最大（最新）的密钥签名
+                if (key.getAlgorithm().equals(algorithm)
+                        && (signingKeyId.isEmpty() || signingKeyId.equals(key.getKeyId()))) {
+                    signingKey = jwk;
+                }
+                if ("RS256".equals(key.getAlgorithm())) {
+                    rsa = key.getKeyPair();
+                }
+            }
+            if (signingKey == null || rsa == null) {
+                throw new IllegalStateException("缺少可用的签名密钥: " + algorithm + " " + signingKeyId);
+            }
+            JWKSet privateJwkSet = new JWKSet(jwks);
+            this.publicJwkSet = privateJwkSet.toPublicJWKSet();
+            this.jwtEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey)));
+            this.jwsHeader = JwsHeader.with(SignatureAlgorithm.from(algorithm)).keyId(signingKey.getKeyID()).build();
+            DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+            processor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+                    Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256), new ImmutableJWKSet<>(publicJwkSet)));
+            this.jwtDecoder = new NimbusJwtDecoder(processor);
+            this.rsaKeyPair = rsa;
+        }
+
+        private static JWK toJwk(ManagedKey key) {
+            KeyPair keyPair = key.getKeyPair();
+            if ("ES256".equals(key.getAlgorithm())) {
+                return new ECKey.Builder(Curve.P_256, (ECPublicKey) keyPair.getPublic())
+                        .privateKey((ECPrivateKey) keyPair.getPrivate())
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(JWSAlgorithm.ES256)
+                        .keyID(key.getKeyId())
+                        .build();
+            }
+            return new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                    .privateKey(keyPair.getPrivate())
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .keyID(key.getKeyId())
+                    .build();
+        }
     }
-} 
\ No newline at end of file
+}
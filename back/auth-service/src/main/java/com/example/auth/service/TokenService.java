@@ -0,0 +1,93 @@
+package com.example.auth.service;
+
+import com.example.common.security.TokenRevocation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * refresh token 与会话登记：
+ * auth:refresh:{token} 保存用户名，auth:sessions:{username} 记录该用户所有有效的 refresh token；
+ * 注销的 access token 写入 auth:revoked 并广播给各资源服务。
+ */
+@Service
+public class TokenService {
+    private static final String REFRESH_KEY = "auth:refresh:";
+    private static final String SESSIONS_KEY = "auth:sessions:";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final AuthService authService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Value("${auth.token.refresh-ttl-seconds:604800}")
+    private long refreshTtlSeconds;
+
+    public TokenService(AuthService authService) {
+        this.authService = authService;
+    }
+
+    public String issueRefreshToken(String username) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Duration ttl = Duration.ofSeconds(refreshTtlSeconds);
+        stringRedisTemplate.opsForValue().set(REFRESH_KEY + token, username, ttl);
+        stringRedisTemplate.opsForSet().add(SESSIONS_KEY + username, token);
+        stringRedisTemplate.expire(SESSIONS_KEY + username, ttl);
+        return token;
+    }
+
+    // 一次性使用：取出即删除，返回用户名；无效或已使用时返回 null
+    public String consumeRefreshToken(String refreshToken) {
+        String username = stringRedisTemplate.opsForValue().getAndDelete(REFRESH_KEY + refreshToken);
+        if (username != null) {
+            stringRedisTemplate.opsForSet().remove(SESSIONS_KEY + username, refreshToken);
+        }
+        return username;
+    }
+
+    public void revokeAllSessions(String username) {
+        Set<String> tokens = stringRedisTemplate.opsForSet().members(SESSIONS_KEY + username);
+        if (tokens != null) {
+            for (String token : tokens) {
+                stringRedisTemplate.delete(REFRESH_KEY + token);
+            }
+        }
+        stringRedisTemplate.delete(SESSIONS_KEY + username);
+    }
+
+    // 校验 access token 签名和有效期，无效时返回 null
+    public Jwt decodeAccessToken(String accessToken) {
+        try {
+            return authService.jwtDecoder().decode(accessToken);
+        } catch (JwtException e) {
+            return null;
+        }
+    }
+
+    // 注销记录保留到令牌自然过期，顺带清理已过期的记录
+    public void revokeAccessToken(Jwt jwt) {
+        if (jwt.getId() == null || jwt.getExpiresAt() == null) {
+            return;
+        }
+        long now = Instant.now().getEpochSecond();
+        stringRedisTemplate.opsForZSet().add(TokenRevocation.REVOKED_KEY, jwt.getId(), jwt.getExpiresAt().getEpochSecond());
+        stringRedisTemplate.opsForZSet().removeRangeByScore(TokenRevocation.REVOKED_KEY, 0, now);
+        stringRedisTemplate.convertAndSend(TokenRevocation.REVOKED_CHANNEL, jwt.getId());
+    }
+
+    public long getRefreshTtlSeconds() {
+        return refreshTtlSeconds;
+    }
+}
@@ -1,16 +1,18 @@
 package com.example.auth.service;
 
 import com.example.common.Result;
+import com.example.common.dto.UserCredentials;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "user-service")
+@FeignClient(name = "user-service", configuration = UserClientConfig.class, fallbackFactory = UserClientFallbackFactory.class)
 public interface UserClient {
-    @GetMapping("/user/getByUsername")
-    Result getUserByUsername(@RequestParam("username") String username);
+    // 登录校验：用户名与密码，user-service 直接查库；请求带服务令牌（UserClientConfig）
+    @GetMapping("/user/credentials")
+    Result<UserCredentials> getCredentials(@RequestParam("username") String username);
 
     @PostMapping("/user/register")
-    Result registerUser(@RequestParam("username") String username, @RequestParam("password") String password);
-} 
\ No newline at end of file
+    Result<String> registerUser(@RequestParam("username") String username, @RequestParam("password") String password);
+}
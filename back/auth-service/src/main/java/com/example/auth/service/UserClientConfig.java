@@ -0,0 +1,17 @@
+package com.example.auth.service;
+
+import feign.RequestInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * UserClient 专用配置（不加 @Configuration，避免被扫描成全局配置）：
+ * 请求带 auth-service 的服务令牌，user-service 据其中的 scope user.credentials 放行登录校验接口。
+ */
+public class UserClientConfig {
+
+    @Bean
+    public RequestInterceptor serviceTokenInterceptor(AuthService authService) {
+        return template -> template.header(HttpHeaders.AUTHORIZATION, "Bearer " + authService.issueServiceToken());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.auth.service;
+
+import com.example.common.Result;
+import com.example.common.dto.UserCredentials;
+import com.example.common.exception.BusinessException;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+// user-service 熔断、限流或超时时快速失败；抛出异常以免被当作“用户名或密码错误”
+@Component
+public class UserClientFallbackFactory implements FallbackFactory<UserClient> {
+    @Override
+    public UserClient create(Throwable cause) {
+        return new UserClient() {
+            @Override
+            public Result<UserCredentials> getCredentials(String username) {
+                throw new BusinessException("用户服务繁忙，请稍后重试");
+            }
+
+            @Override
+            public Result<String> registerUser(String username, String password) {
+                throw new BusinessException("用户服务繁忙，请稍后重试");
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.benchmarks.auth;
+
+import com.example.auth.service.AuthService;
+import com.example.benchmarks.support.Stubs;
+import com.example.common.security.key.KeyProvider;
+import com.example.common.security.key.ManagedKey;
+import com.example.common.security.key.PemKeys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthService.issueAccessToken 端到端开销：组装 claims、取密钥快照、Spring NimbusJwtEncoder 编码签名。
+ * 与 JwtSigningBenchmark 的差值即 Spring 封装与 JWK 选择的额外成本。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthServiceBenchmark {
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private AuthService authService;
+
+    @Setup
+    public void setup() {
+        List<ManagedKey> keys = List.of(
+                new ManagedKey(PemKeys.newKeyId("ES256"), PemKeys.generate("ES256")),
+                new ManagedKey(PemKeys.newKeyId("RS256"), PemKeys.generate("RS256")));
+        authService = new AuthService(new FixedKeyProvider(keys), algorithm, "");
+        Stubs.inject(authService, "accessTtlSeconds", 900L);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return authService.issueAccessToken("benchmark_user");
+    }
+
+    // 内存中的固定密钥，始终返回同一个 List，快照只构建一次
+    private static class FixedKeyProvider implements KeyProvider {
+        private final List<ManagedKey> keys;
+
+        FixedKeyProvider(List<ManagedKey> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public List<ManagedKey> getKeys() {
+            return keys;
+        }
+
+        @Override
+        public void createIfMissing(String algorithm) {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.benchmarks.auth;
+
+import com.example.common.utils.RsaKeyTool;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每种签名算法签发一个令牌、验证一个令牌的开销，对应 auth-service 登录签名与资源服务验签。
+ * 密钥与 auth-service 相同：RSA-2048 与 EC P-256。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtSigningBenchmark {
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private JWSHeader header;
+    private JWSSigner signer;
+    private JWSVerifier verifier;
+    private JWTClaimsSet claims;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        if ("ES256".equals(algorithm)) {
+            KeyPair keyPair = RsaKeyTool.generateECKeyPair();
+            header = new JWSHeader(JWSAlgorithm.ES256);
+            signer = new ECDSASigner((ECPrivateKey) keyPair.getPrivate());
+            verifier = new ECDSAVerifier((ECPublicKey) keyPair.getPublic());
+        } else {
+            KeyPair keyPair = RsaKeyTool.generateRSAKeyPair();
+            header = new JWSHeader(JWSAlgorithm.RS256);
+            signer = new RSASSASigner(keyPair.getPrivate());
+            verifier = new RSASSAVerifier((RSAPublicKey) keyPair.getPublic());
+        }
+        claims = new JWTClaimsSet.Builder()
+                .issuer("my-app")
+                .subject("benchmark_user")
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + 900_000))
+                .build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() throws Exception {
+        SignedJWT jwt = new SignedJWT(header, claims);
+        jwt.sign(signer);
+        return jwt.serialize();
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        return SignedJWT.parse(token).verify(verifier);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.benchmarks.auth;
+
+import com.example.auth.controller.AuthController;
+import com.example.common.utils.RsaKeyTool;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 登录时 AuthController 用 RSA 私钥解密前端加密的用户名、密码，每次登录执行两次。
+ * rsaDecrypt 是私有方法，通过 MethodHandle 调用，不复制实现，改动后基准自动跟随。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RsaDecryptBenchmark {
+    private AuthController controller;
+    private MethodHandle rsaDecrypt;
+    private PrivateKey privateKey;
+    private String encrypted;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyPair keyPair = RsaKeyTool.generateRSAKeyPair();
+        privateKey = keyPair.getPrivate();
+        Cipher cipher = Cipher.getInstance("RSA");
+        cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPublic());
+        encrypted = Base64.getEncoder().encodeToString(cipher.doFinal("benchmark_password".getBytes(StandardCharsets.UTF_8)));
+
+        controller = new AuthController();
+        rsaDecrypt = MethodHandles.privateLookupIn(AuthController.class, MethodHandles.lookup())
+                .findVirtual(AuthController.class, "rsaDecrypt",
+                        MethodType.methodType(String.class, String.class, PrivateKey.class));
+    }
+
+    @Benchmark
+    public String decrypt() throws Throwable {
+        return (String) rsaDecrypt.invoke(controller, encrypted, privateKey);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.benchmarks.business;
+
+import com.example.benchmarks.support.Stubs;
+import com.example.business.dao.BusinessDAO;
+import com.example.business.dao.FoodTypeDAO;
+import com.example.business.dto.BusinessDTO;
+import com.example.business.dto.FoodTypeDTO;
+import com.example.business.service.BusinessService;
+import com.example.business.service.FoodTypeService;
+import com.example.common.Result;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 商家列表、分类列表接口每次请求都把 classpath 下的图片读出并转成 base64 data URI。
+ * 使用 business-service 自带的图片（商家图 9 张、分类图 10 张），DAO 用内存桩替代。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageEncodingBenchmark {
+    private static final int BUSINESS_IMAGES = 9;
+    private static final int FOOD_TYPE_IMAGES = 10;
+
+    private BusinessService businessService;
+    private FoodTypeService foodTypeService;
+
+    @Setup
+    public void setup() {
+        businessService = new BusinessService();
+        // list 会把当前页 DTO 的 image 原地替换成 data URI，每次调用返回新的 DTO
+        Stubs.inject(businessService, "businessDAO", Stubs.of(BusinessDAO.class,
+                Map.of("findPage", args -> new SliceImpl<>(businesses(), (Pageable) args[2], false))));
+
+        foodTypeService = new FoodTypeService();
+        // getFoodTypeList 会把 img 原地替换成 data URI，每次调用返回新的 DTO
+        Stubs.inject(foodTypeService, "foodTypeDAO", Stubs.of(FoodTypeDAO.class,
+                Map.of("findAllDTO", args -> foodTypes())));
+    }
+
+    // 首页第一页，商家图片全部在这一页内
+    @Benchmark
+    public Result businessList() {
+        return businessService.list(0, 20, "score", null, null, null);
+    }
+
+    @Benchmark
+    public Result foodTypeList() {
+        return foodTypeService.getFoodTypeList();
+    }
+
+    private static List<BusinessDTO> businesses() {
+        List<BusinessDTO> list = new ArrayList<>();
+        for (long i = 1; i <= BUSINESS_IMAGES; i++) {
+            list.add(new BusinessDTO(i, "描述" + i, "商家" + i, 3.0, String.format("business%02d.png", i),
+                    15.0, 100, 4.5, null));
+        }
+        return list;
+    }
+
+    private static List<FoodTypeDTO> foodTypes() {
+        List<FoodTypeDTO> list = new ArrayList<>();
+        for (long i = 1; i <= FOOD_TYPE_IMAGES; i++) {
+            list.add(new FoodTypeDTO(i, "分类" + i, String.format("foodType%02d.png", i)));
+        }
+        return list;
+    }
+}
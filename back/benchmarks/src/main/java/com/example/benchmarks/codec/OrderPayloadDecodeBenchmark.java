@@ -0,0 +1,112 @@
+package com.example.benchmarks.codec;
+
+import com.example.common.Result;
+import com.example.common.dto.OrderInfo;
+import com.example.common.dto.OrderItemInfo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 订单详情响应的解码开销：Map 树 + instanceof 遍历、类型化 JSON、类型化 Smile。
+ * 每个方法都解码并计算订单明细总价，模拟调用方真正读取字段的成本。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderPayloadDecodeBenchmark {
+    private static final TypeReference<Result<List<OrderInfo>>> ORDER_LIST =
+            new TypeReference<Result<List<OrderInfo>>>() {};
+
+    @Param({"5", "50"})
+    private int orderCount;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new SmileMapper();
+    private byte[] json;
+    private byte[] smile;
+
+    @Setup
+    public void setup() throws Exception {
+        Result<List<OrderInfo>> payload = Result.success(createOrders(orderCount));
+        json = jsonMapper.writeValueAsBytes(payload);
+        smile = smileMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public double jsonToMap() throws Exception {
+        Map<?, ?> result = jsonMapper.readValue(json, Map.class);
+        double total = 0;
+        if (result.get("data") instanceof List) {
+            for (Object order : (List<?>) result.get("data")) {
+                if (!(order instanceof Map)) continue;
+                Object items = ((Map<?, ?>) order).get("orderItemDTOs");
+                if (!(items instanceof List)) continue;
+                for (Object item : (List<?>) items) {
+                    if (!(item instanceof Map)) continue;
+                    Object price = ((Map<?, ?>) item).get("commodityPrice");
+                    Object quanity = ((Map<?, ?>) item).get("quanity");
+                    if (price instanceof Number && quanity instanceof Number) {
+                        total += ((Number) price).doubleValue() * ((Number) quanity).intValue();
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double jsonTyped() throws Exception {
+        return sum(jsonMapper.readValue(json, ORDER_LIST));
+    }
+
+    @Benchmark
+    public double smileTyped() throws Exception {
+        return sum(smileMapper.readValue(smile, ORDER_LIST));
+    }
+
+    private static double sum(Result<List<OrderInfo>> result) {
+        double total = 0;
+        for (OrderInfo order : result.getData()) {
+            for (OrderItemInfo item : order.getOrderItemDTOs()) {
+                total += item.getCommodityPrice() * item.getQuanity();
+            }
+        }
+        return total;
+    }
+
+    static List<OrderInfo> createOrders(int count) {
+        List<OrderInfo> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            OrderInfo order = new OrderInfo();
+            order.setOrderId((long) i + 1);
+            order.setBusinessName("万家饺子（软件园E18店）" + i);
+            order.setBusinessDeliveryFees(3.0);
+            List<OrderItemInfo> items = new ArrayList<>();
+            double amount = 0;
+            for (int j = 0; j < 4; j++) {
+                OrderItemInfo item = new OrderItemInfo();
+                item.setId((long) i * 4 + j + 1);
+                item.setCommodityId((long) j + 1);
+                item.setQuanity(j + 1);
+                item.setProductName("纯肉鲜肉（水饺）" + j);
+                item.setCommodityPrice(15.0 + j);
+                amount += item.getCommodityPrice() * item.getQuanity();
+                items.add(item);
+            }
+            order.setPayAmount(amount + order.getBusinessDeliveryFees());
+            order.setOrderItemDTOs(items);
+            orders.add(order);
+        }
+        return orders;
+    }
+}
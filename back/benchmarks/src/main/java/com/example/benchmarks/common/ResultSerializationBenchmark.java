@@ -0,0 +1,62 @@
+package com.example.benchmarks.common;
+
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 所有接口都以 Result 包装返回，这里测 Jackson 序列化一个商家列表 Result 的开销。
+ * writerFor 复用预先解析好的泛型类型，对比每次按运行时类型查找序列化器的默认写法。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSerializationBenchmark {
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter typedWriter;
+    private Result<List<BusinessInfo>> result;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        typedWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(Result.class, objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, BusinessInfo.class)));
+        List<BusinessInfo> list = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            BusinessInfo business = new BusinessInfo();
+            business.setId(i);
+            business.setName("商家" + i);
+            business.setBusinessDescription("描述" + i);
+            business.setDeliveryFees(3.0);
+            business.setMiniDeliveryFee(15.0);
+            business.setMonthSold(100);
+            business.setScore(4.5);
+            business.setImage(String.format("business%02d.png", i % 9 + 1));
+            list.add(business);
+        }
+        result = Result.success(list);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] typedWriter() throws Exception {
+        return typedWriter.writeValueAsBytes(result);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.benchmarks.common;
+
+import com.example.common.dto.BusinessInfo;
+import com.example.common.utils.UpdateTool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UpdateTool.copyNullProperties 每次调用都反射取字段并 setAccessible，部分更新接口按此合并字段。
+ * 目标对象一半字段为空，模拟只提交了部分字段的更新请求。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateToolBenchmark {
+    private BusinessInfo source;
+
+    @Setup
+    public void setup() {
+        source = new BusinessInfo();
+        source.setId(1L);
+        source.setName("商家1");
+        source.setBusinessDescription("描述");
+        source.setDeliveryFees(3.0);
+        source.setMiniDeliveryFee(15.0);
+        source.setMonthSold(100);
+        source.setScore(4.5);
+        source.setImage("business01.png");
+    }
+
+    @Benchmark
+    public BusinessInfo copyNullProperties() {
+        BusinessInfo target = new BusinessInfo();
+        target.setName("新名称");
+        target.setDeliveryFees(4.0);
+        target.setScore(4.8);
+        target.setImage("business02.png");
+        UpdateTool.copyNullProperties(source, target);
+        return target;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.benchmarks.order;
+
+import com.example.benchmarks.support.Stubs;
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import com.example.order.dao.OrderDAO;
+import com.example.order.dao.OrderItemDAO;
+import com.example.order.dto.OrderTableDTO;
+import com.example.order.entity.OrderItem;
+import com.example.order.entity.OrderTable;
+import com.example.order.feign.BusinessClient;
+import com.example.order.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService 订单历史组装：DAO 与 BusinessClient 用内存桩替代，只测组装本身与远程调用次数的影响。
+ * 每个订单 3 条明细，商家 10 个、商品 50 个循环分布，与页面上“我的订单”的数据形态接近。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderEnrichmentBenchmark {
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int BUSINESS_COUNT = 10;
+    private static final int COMMODITY_COUNT = 50;
+
+    @Param({"10", "100"})
+    private int orderCount;
+
+    private OrderService orderService;
+
+    @Setup
+    public void setup() {
+        List<OrderTable> orders = new ArrayList<>();
+        Map<Long, List<OrderItem>> itemsByOrder = new HashMap<>();
+        long itemId = 1;
+        for (long i = 1; i <= orderCount; i++) {
+            OrderTable order = new OrderTable();
+            order.setId(i);
+            order.setUserId(1L);
+            order.setIsPay(true);
+            order.setPayAmount(36.5);
+            order.setBusinessId(i % BUSINESS_COUNT + 1);
+            orders.add(order);
+            List<OrderItem> items = new ArrayList<>();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                OrderItem item = new OrderItem();
+                item.setId(itemId);
+                item.setOrderTableId(i);
+                item.setCommodityId(itemId % COMMODITY_COUNT + 1);
+                item.setQuanity(2);
+                items.add(item);
+                itemId++;
+            }
+            itemsByOrder.put(i, items);
+        }
+
+        orderService = new OrderService();
+        Stubs.inject(orderService, "orderDAO", Stubs.of(OrderDAO.class,
+                Map.of("findByUserIdAndIsPay", args -> orders)));
+        Stubs.inject(orderService, "orderItemDAO", Stubs.of(OrderItemDAO.class,
+                Map.of("findByOrderTableId", args -> itemsByOrder.getOrDefault((Long) args[0], List.of()))));
+        Stubs.inject(orderService, "businessClient", Stubs.of(BusinessClient.class, Map.of(
+                "getBusinessById", args -> Result.success(business((Long) args[0])),
+                "getCommodityById", args -> Result.success(commodity((Long) args[0])))));
+    }
+
+    @Benchmark
+    public List<OrderTableDTO> allFields() {
+        return orderService.getPayedOrderByUserId(1L);
+    }
+
+    // 列表页只取金额和商家名，不查明细和商品
+    @Benchmark
+    public List<OrderTableDTO> selectedFields() {
+        return orderService.getPayedOrderByUserId(1L, "orderId,payAmount,businessName");
+    }
+
+    private static BusinessInfo business(Long id) {
+        BusinessInfo business = new BusinessInfo();
+        business.setId(id);
+        business.setName("商家" + id);
+        business.setDeliveryFees(3.0);
+        return business;
+    }
+
+    private static CommodityInfo commodity(Long id) {
+        CommodityInfo commodity = new CommodityInfo();
+        commodity.setId(id);
+        commodity.setCommodityName("商品" + id);
+        commodity.setPrice(12.0);
+        commodity.setImage("commodity" + id + ".png");
+        return commodity;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.benchmarks.order;
+
+import com.example.benchmarks.support.Stubs;
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import com.example.order.dao.OrderDAO;
+import com.example.order.dao.OrderItemDAO;
+import com.example.order.entity.OrderItem;
+import com.example.order.entity.OrderTable;
+import com.example.order.feign.BusinessClient;
+import com.example.order.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 订单历史读路径在不同线程模型下能承受的并发：一批 concurrency 个请求同时到达，测全部完成的耗时。
+ * DAO 与 BusinessClient 用 sleep 模拟 JDBC（2ms）和 Feign（5ms）的阻塞，JDBC 调用受 jdbcPoolSize 个连接限制。
+ * <ul>
+ *     <li>platform：Tomcat 默认的 200 个平台线程</li>
+ *     <li>virtual：每个请求一个虚拟线程（spring.threads.virtual.enabled=true），需 JDK 21+</li>
+ *     <li>virtual-pinned：同上，但阻塞发生在 synchronized 内，JDK 21 上虚拟线程被钉在载体线程上，并发退化为 CPU 核数</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderReadConcurrencyBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int ORDERS_PER_USER = 3;
+    private static final long JDBC_MILLIS = 2;
+    private static final long FEIGN_MILLIS = 5;
+    // 分散的锁对象：竞争可忽略，且不会被 JIT 当作未逃逸对象消除同步
+    private static final Object[] MONITORS = new Object[1024];
+
+    static {
+        for (int i = 0; i < MONITORS.length; i++) {
+            MONITORS[i] = new Object();
+        }
+    }
+
+    @Param({"platform", "virtual", "virtual-pinned"})
+    private String threads;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    @Param({"10", "200"})
+    private int jdbcPoolSize;
+
+    private ExecutorService executor;
+    private OrderService orderService;
+
+    @Setup
+    public void setup() throws Exception {
+        executor = "platform".equals(threads)
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : newVirtualThreadPerTaskExecutor();
+        boolean pinned = "virtual-pinned".equals(threads);
+        Semaphore connections = new Semaphore(jdbcPoolSize);
+
+        List<OrderTable> orders = new ArrayList<>();
+        for (long i = 1; i <= ORDERS_PER_USER; i++) {
+            OrderTable order = new OrderTable();
+            order.setId(i);
+            order.setUserId(1L);
+            order.setIsPay(true);
+            order.setPayAmount(36.5);
+            order.setBusinessId(i);
+            orders.add(order);
+        }
+        orderService = new OrderService();
+        Stubs.inject(orderService, "orderDAO", Stubs.of(OrderDAO.class,
+                Map.of("findByUserIdAndIsPay", args -> jdbc(connections, pinned, orders))));
+        Stubs.inject(orderService, "orderItemDAO", Stubs.of(OrderItemDAO.class,
+                Map.of("findByOrderTableId", args -> jdbc(connections, pinned, List.of(item((Long) args[0]))))));
+        Stubs.inject(orderService, "businessClient", Stubs.of(BusinessClient.class, Map.of(
+                "getBusinessById", args -> feign(pinned, Result.success(business((Long) args[0]))),
+                "getCommodityById", args -> feign(pinned, Result.success(commodity((Long) args[0]))))));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> orderService.getPayedOrderByUserId(1L)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    // 不要求以 JDK 21 编译，虚拟线程执行器通过反射获取
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("虚拟线程需要 JDK 21+", e);
+        }
+    }
+
+    private static <T> T jdbc(Semaphore connections, boolean pinned, T result) {
+        connections.acquireUninterruptibly();
+        try {
+            return block(pinned, JDBC_MILLIS, result);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static <T> T feign(boolean pinned, T result) {
+        return block(pinned, FEIGN_MILLIS, result);
+    }
+
+    private static <T> T block(boolean pinned, long millis, T result) {
+        if (pinned) {
+            // 只体现 synchronized 内阻塞对载体线程的占用
+            synchronized (MONITORS[ThreadLocalRandom.current().nextInt(MONITORS.length)]) {
+                sleep(millis);
+            }
+        } else {
+            sleep(millis);
+        }
+        return result;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OrderItem item(Long orderId) {
+        OrderItem item = new OrderItem();
+        item.setId(orderId);
+        item.setOrderTableId(orderId);
+        item.setCommodityId(orderId);
+        item.setQuanity(1);
+        return item;
+    }
+
+    private static BusinessInfo business(Long id) {
+        BusinessInfo business = new BusinessInfo();
+        business.setId(id);
+        business.setName("商家" + id);
+        business.setDeliveryFees(3.0);
+        return business;
+    }
+
+    private static CommodityInfo commodity(Long id) {
+        CommodityInfo commodity = new CommodityInfo();
+        commodity.setId(id);
+        commodity.setCommodityName("商品" + id);
+        commodity.setPrice(12.0);
+        return commodity;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.benchmarks.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 不启动 Spring 容器时给服务类装配依赖：DAO、Feign 客户端用动态代理按方法名返回固定数据，
+ * 再通过反射写入 @Autowired / @Value 字段。
+ */
+public final class Stubs {
+    private Stubs() {
+    }
+
+    // handlers 的 key 为方法名，value 接收调用参数返回结果；未登记的方法直接抛出异常，避免基准悄悄走空实现
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "toString":
+                        return "Stub(" + type.getSimpleName() + ")";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return handler.apply(args);
+        });
+    }
+
+    public static void inject(Object target, String fieldName, Object value) {
+        Class<?> clazz = target.getClass();
+        while (clazz != null) {
+            try {
+                Field field = clazz.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法写入字段: " + fieldName, e);
+            }
+        }
+        throw new IllegalArgumentException("字段不存在: " + target.getClass().getName() + "." + fieldName);
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.business;
 
+import com.example.common.config.MetricsConfig;
+import com.example.common.config.RequestIdConfig;
+import com.example.common.config.SmileWebConfig;
+import com.example.common.config.StartupConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({SmileWebConfig.class, MetricsConfig.class, RequestIdConfig.class, StartupConfig.class})
 public class BusinessServiceApplication {
     public static void main(String[] args) {
-        SpringApplication.run(BusinessServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(BusinessServiceApplication.class);
+        // 记录启动各步骤耗时，完整时间线见 /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 } 
\ No newline at end of file
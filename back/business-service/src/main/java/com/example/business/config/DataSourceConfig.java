@@ -1,30 +1,56 @@
 package com.example.business.config;
 
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.HibernateMetrics;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
 import javax.sql.DataSource;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypesScanner;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
 import java.util.Properties;
 
 @Configuration
 public class DataSourceConfig {
+    // 与实体上的 @Cache、DAO 上的查询缓存区域对应；default-query-results-region 在开启查询缓存时总会创建
+    private static final List<String> CATALOG_CACHE_REGIONS = List.of(
+            "business", "commodity", "food_type",
+            "business_list", "commodity_by_business", "food_type_dto",
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
     @Autowired
     private Environment env;
 
     @Bean(name = "masterDataSource")
     @Primary
+    @FlywayDataSource
     public DataSource masterDataSource(@Autowired Environment env) {
         return DataSourceBuilder.create()
                 .url(env.getProperty("spring.datasource.master.url"))
@@ -70,11 +96,50 @@ public class DataSourceConfig {
         return new org.springframework.jdbc.datasource.DataSourceTransactionManager(dataSource);
     }
 
+    // 实体列表作为 bean 提供：AOT 处理时在构建期完成扫描并为实体登记反射信息，native image 运行时无法扫描 classpath
+    @Bean
+    public PersistenceManagedTypes persistenceManagedTypes(ResourceLoader resourceLoader) {
+        return new PersistenceManagedTypesScanner(resourceLoader).scan("com.example.business.entity");
+    }
+
+    // 二级缓存：商家、商品、分类实体与常用查询结果。默认本地 Caffeine；business.cache.provider=redis 时改用 Redisson，
+    // 多个实例共用 Redis 中的同一份缓存（连接配置见 redisson-jcache.yaml）。
+    // 区域在这里按 TTL 预先建好（数据也可能直接在库中修改），更新时间戳区域不过期；未声明的区域启动即报错
+    @Bean(destroyMethod = "close")
+    public CacheManager catalogCacheManager() {
+        String provider = "redis".equals(env.getProperty("business.cache.provider"))
+                ? "org.redisson.jcache.JCachingProvider"
+                : "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+        CacheManager cacheManager = Caching.getCachingProvider(provider).getCacheManager();
+        Duration ttl = new Duration(TimeUnit.SECONDS, env.getProperty("business.cache.ttl-seconds", Long.class, 600L));
+        for (String region : CATALOG_CACHE_REGIONS) {
+            createCache(cacheManager, region, ttl);
+        }
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, Duration.ETERNAL);
+        return cacheManager;
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, Duration ttl) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, new MutableConfiguration<>()
+                    .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(ttl))
+                    .setStatisticsEnabled(true));
+        }
+    }
+
+    // 命中率、未命中、写入次数按区域导出（hibernate.second.level.cache.*、hibernate.cache.query.*）
+    @Bean
+    public HibernateMetrics hibernateMetrics(@Qualifier("entityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory", Tags.empty());
+    }
+
     @Bean(name = "entityManagerFactory")
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(@Qualifier("dataSource") DataSource dataSource) {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(@Qualifier("dataSource") DataSource dataSource,
+                                                                       PersistenceManagedTypes persistenceManagedTypes,
+                                                                       CacheManager catalogCacheManager) {
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
         em.setDataSource(dataSource);
-        em.setPackagesToScan("com.example.business.entity");
+        em.setManagedTypes(persistenceManagedTypes);
         em.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
 
         Properties properties = new Properties();
@@ -82,7 +147,16 @@ public class DataSourceConfig {
         properties.put("hibernate.dialect", env.getProperty("spring.jpa.database-platform"));
         properties.put("hibernate.show_sql", env.getProperty("spring.jpa.show-sql"));
         properties.put("hibernate.format_sql", env.getProperty("spring.jpa.properties.hibernate.format_sql"));
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.use_query_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", "jcache");
+        properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        properties.put("hibernate.generate_statistics", "true");
+        // 其余 spring.jpa.properties.* 原样交给 Hibernate，例如 AppCDS 训练运行时关闭启动阶段的 JDBC 元数据访问
+        Binder.get(env).bind("spring.jpa.properties", Bindable.mapOf(String.class, String.class))
+                .ifBound(properties::putAll);
         em.setJpaProperties(properties);
+        em.getJpaPropertyMap().put(ConfigSettings.CACHE_MANAGER, catalogCacheManager);
 
         return em;
     }
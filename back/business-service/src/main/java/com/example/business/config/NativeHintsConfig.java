@@ -0,0 +1,35 @@
+package com.example.business.config;
+
+import com.example.business.dto.BusinessDTO;
+import com.example.business.dto.CommodityDTO;
+import com.example.business.dto.FoodTypeDTO;
+import com.example.business.dto.SearchHitDTO;
+import com.example.business.entity.Business;
+import com.example.business.entity.Commodity;
+import com.example.business.entity.FoodType;
+import com.example.common.Result;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * native image 提示：Controller 返回 Result，data 的实际类型 AOT 推断不出，DTO 与实体按 JSON 序列化登记；
+ * 图片与 Flyway 迁移脚本从 classpath 读取。JPA 实体的反射信息由 DataSourceConfig 的 PersistenceManagedTypes 在构建期生成。
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ClasspathResourceHints.class)
+@RegisterReflectionForBinding({Result.class, BusinessDTO.class, CommodityDTO.class, FoodTypeDTO.class,
+        SearchHitDTO.class, Business.class, Commodity.class, FoodType.class})
+public class NativeHintsConfig {
+
+    static class ClasspathResourceHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("image/*");
+            // Flyway 迁移脚本按服务、数据库类型分目录存放，不在 Spring Boot 默认登记的 db/migration/* 内
+            hints.resources().registerPattern("db/migration/business/*/*.sql");
+        }
+    }
+}
@@ -16,8 +16,14 @@ public class BusinessController {
         return businessService.getBusinessById(id);
     }
 
+    // 分页商家列表：sort 取 score、monthSold、deliveryFees；可按分类、起送价上限筛选
     @GetMapping("/list")
-    public Result getBusinessList() {
-        return businessService.list();
+    public Result getBusinessList(@RequestParam(defaultValue = "0") int page,
+                                  @RequestParam(defaultValue = "20") int size,
+                                  @RequestParam(defaultValue = "score") String sort,
+                                  @RequestParam(required = false) String direction,
+                                  @RequestParam(required = false) Long foodTypeId,
+                                  @RequestParam(required = false) Double maxMiniDeliveryFee) {
+        return businessService.list(page, size, sort, direction, foodTypeId, maxMiniDeliveryFee);
     }
 } 
\ No newline at end of file
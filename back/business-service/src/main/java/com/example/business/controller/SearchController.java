@@ -0,0 +1,28 @@
+package com.example.business.controller;
+
+import com.example.business.service.SearchService;
+import com.example.common.Result;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/business")
+public class SearchController {
+    @Autowired
+    private SearchService searchService;
+
+    // 搜索商家名称、描述与商品名称、描述；type 取 business 或 commodity，不传则都查
+    @GetMapping("/search")
+    public Result search(@RequestParam String q,
+                         @RequestParam(required = false) String type,
+                         @RequestParam(defaultValue = "20") int limit) {
+        return searchService.search(q, type, limit);
+    }
+
+    // 搜索框输入联想
+    @GetMapping("/suggest")
+    public Result suggest(@RequestParam String prefix,
+                          @RequestParam(defaultValue = "10") int limit) {
+        return searchService.suggest(prefix, limit);
+    }
+}
@@ -1,9 +1,28 @@
 package com.example.business.dao;
 
+import com.example.business.dto.BusinessDTO;
 import com.example.business.entity.Business;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BusinessDAO extends JpaRepository<Business, Long> {
-} 
\ No newline at end of file
+    // 商家列表：只查列表展示的列，筛选、排序、分页都在库中完成；返回 Slice 不做 count 查询。
+    // 条件为 null 时不筛选；结果按参数与分页进入查询缓存
+    @Query("select new com.example.business.dto.BusinessDTO(b.id, b.businessDescription, b.name, b.deliveryFees, b.image,"
+            + " b.miniDeliveryFee, b.monthSold, b.score, b.foodTypeId) from Business b"
+            + " where (:foodTypeId is null or b.foodTypeId = :foodTypeId)"
+            + " and (:maxMiniDeliveryFee is null or b.miniDeliveryFee <= :maxMiniDeliveryFee)")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "business_list")})
+    Slice<BusinessDTO> findPage(@Param("foodTypeId") Long foodTypeId,
+                                @Param("maxMiniDeliveryFee") Double maxMiniDeliveryFee,
+                                Pageable pageable);
+}
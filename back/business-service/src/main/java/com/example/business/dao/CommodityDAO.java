@@ -1,12 +1,18 @@
 package com.example.business.dao;
 
 import com.example.business.entity.Commodity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface CommodityDAO extends JpaRepository<Commodity, Long> {
     // 新增：根据 businessId 查询商品列表
+    // 查询缓存只保存商品 id，实体从二级缓存读取
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "commodity_by_business")})
     List<Commodity> findByBusinessId(Long businessId);
 } 
\ No newline at end of file
@@ -2,13 +2,18 @@ package com.example.business.dao;
 
 import com.example.business.entity.FoodType;
 import com.example.business.dto.FoodTypeDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface FoodTypeDAO extends JpaRepository<FoodType, Long> {
     @Query("select new com.example.business.dto.FoodTypeDTO(f.id, f.name, f.img) from FoodType f")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "food_type_dto")})
     List<FoodTypeDTO> findAllDTO();
 } 
\ No newline at end of file
@@ -9,6 +9,25 @@ public class BusinessDTO {
     private Double miniDeliveryFee;
     private Integer monthSold;
     private Double score;
+    private Long foodTypeId;
+
+    public BusinessDTO() {
+    }
+
+    // 商家列表投影查询（BusinessDAO.findPage）使用，image 此时为图片文件名
+    public BusinessDTO(Long id, String description, String name, Double deliveryFees, String image,
+                       Double miniDeliveryFee, Integer monthSold, Double score, Long foodTypeId) {
+        this.id = id;
+        this.description = description;
+        this.name = name;
+        this.deliveryFees = deliveryFees;
+        this.image = image;
+        this.miniDeliveryFee = miniDeliveryFee;
+        this.monthSold = monthSold;
+        this.score = score;
+        this.foodTypeId = foodTypeId;
+    }
+
     // getter/setter
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -26,4 +45,6 @@ public class BusinessDTO {
     public void setMonthSold(Integer monthSold) { this.monthSold = monthSold; }
     public Double getScore() { return score; }
     public void setScore(Double score) { this.score = score; }
+    public Long getFoodTypeId() { return foodTypeId; }
+    public void setFoodTypeId(Long foodTypeId) { this.foodTypeId = foodTypeId; }
 } 
\ No newline at end of file
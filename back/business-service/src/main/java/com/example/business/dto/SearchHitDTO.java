@@ -0,0 +1,27 @@
+package com.example.business.dto;
+
+// 搜索、联想结果：type 为 business 或 commodity；商品的 businessId 为所属商家，商家的 businessId 即自身 id
+public class SearchHitDTO {
+    private String type;
+    private Long id;
+    private Long businessId;
+    private String name;
+    private Double score;
+    public SearchHitDTO(String type, Long id, Long businessId, String name, Double score) {
+        this.type = type;
+        this.id = id;
+        this.businessId = businessId;
+        this.name = name;
+        this.score = score;
+    }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getBusinessId() { return businessId; }
+    public void setBusinessId(Long businessId) { this.businessId = businessId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public Double getScore() { return score; }
+    public void setScore(Double score) { this.score = score; }
+}
@@ -1,20 +1,34 @@
 package com.example.business.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "business")
+// 读多写少，进入二级缓存（区域在 DataSourceConfig 中创建）
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "business")
 public class Business {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String businessDescription;
     private String name;
+    // 金额在库中为 DECIMAL(10,2)，读写时与 Double 互转
+    @Column(precision = 10, scale = 2)
+    @JdbcTypeCode(SqlTypes.DECIMAL)
     private Double deliveryFees;
     private String image;
+    @Column(precision = 10, scale = 2)
+    @JdbcTypeCode(SqlTypes.DECIMAL)
     private Double miniDeliveryFee;
     private Integer monthSold;
     private Double score;
+    // 所属分类（food_type.id），首页按分类筛选商家
+    private Long foodTypeId;
 
     // getter/setter
     public Long getId() { return id; }
@@ -33,4 +47,6 @@ public class Business {
     public void setMonthSold(Integer monthSold) { this.monthSold = monthSold; }
     public Double getScore() { return score; }
     public void setScore(Double score) { this.score = score; }
+    public Long getFoodTypeId() { return foodTypeId; }
+    public void setFoodTypeId(Long foodTypeId) { this.foodTypeId = foodTypeId; }
 } 
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.example.business.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "commodity")
+// 读多写少，进入二级缓存（区域在 DataSourceConfig 中创建）
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "commodity")
 public class Commodity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -11,6 +18,9 @@ public class Commodity {
     private String commodityDescription;
     private String commodityName;
     private String image;
+    // 金额在库中为 DECIMAL(10,2)，读写时与 Double 互转
+    @Column(precision = 10, scale = 2)
+    @JdbcTypeCode(SqlTypes.DECIMAL)
     private Double price;
     private Long businessId;
 
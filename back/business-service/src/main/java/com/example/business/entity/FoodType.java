@@ -1,9 +1,14 @@
 package com.example.business.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "food_type")
+// 读多写少，进入二级缓存（区域在 DataSourceConfig 中创建）
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "food_type")
 public class FoodType {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
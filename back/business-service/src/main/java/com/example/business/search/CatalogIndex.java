@@ -0,0 +1,205 @@
+package com.example.business.search;
+
+import com.example.business.dto.SearchHitDTO;
+import com.example.business.entity.Business;
+import com.example.business.entity.Commodity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 商家、商品的内存倒排索引：词 -> (文档 -> 加权词频)，名称中的词权重高于描述；按 BM25 打分，
+ * 查询词须全部出现。另按小写名称维护有序表，供前缀联想。读多写少，用读写锁保护。
+ */
+public class CatalogIndex {
+    public static final String TYPE_BUSINESS = "business";
+    public static final String TYPE_COMMODITY = "commodity";
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, Doc> docs = new HashMap<>();
+    private final TreeMap<String, Set<String>> names = new TreeMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Doc(String type, Long id, Long businessId, String name, String nameKey,
+                       Map<String, Integer> terms, int length) {
+    }
+
+    public void put(Business business) {
+        put(TYPE_BUSINESS, business.getId(), business.getId(), business.getName(), business.getBusinessDescription());
+    }
+
+    public void put(Commodity commodity) {
+        put(TYPE_COMMODITY, commodity.getId(), commodity.getBusinessId(), commodity.getCommodityName(),
+                commodity.getCommodityDescription());
+    }
+
+    public void remove(String type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // type 为 null 时商家、商品都查
+    public List<SearchHitDTO> search(String query, String type, int limit) {
+        Set<String> terms = Tokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Map<String, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<String, Integer> list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // 从最短的倒排表出发，其余表只做查找
+            lists.sort(Comparator.comparingInt(Map::size));
+            double n = docs.size();
+            double avgLength = n == 0 ? 1 : (double) totalLength / n;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                double df = lists.get(i).size();
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            }
+            List<SearchHitDTO> hits = new ArrayList<>();
+            candidates:
+            for (String key : lists.get(0).keySet()) {
+                Doc doc = docs.get(key);
+                if (type != null && !type.equals(doc.type())) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * doc.length() / avgLength);
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Integer tf = lists.get(i).get(key);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                hits.add(toHit(doc, score));
+            }
+            hits.sort(Comparator.comparingDouble(SearchHitDTO::getScore).reversed()
+                    .thenComparing(SearchHitDTO::getName, Comparator.nullsLast(Comparator.naturalOrder())));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 名称以 prefix 开头（不区分大小写）的商家、商品，按名称排序
+    public List<SearchHitDTO> suggest(String prefix, int limit) {
+        String from = prefix.trim().toLowerCase(Locale.ROOT);
+        if (from.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<SearchHitDTO> hits = new ArrayList<>();
+            SortedMap<String, Set<String>> matched = names.subMap(from, from + Character.MAX_VALUE);
+            for (Set<String> keys : matched.values()) {
+                for (String key : keys) {
+                    hits.add(toHit(docs.get(key), 0));
+                    if (hits.size() >= limit) {
+                        return hits;
+                    }
+                }
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(String type, Long id, Long businessId, String name, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String term : Tokenizer.indexTerms(name)) {
+            terms.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : Tokenizer.indexTerms(description)) {
+            terms.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        String nameKey = name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+        String key = key(type, id);
+        Doc doc = new Doc(type, id, businessId, name, nameKey, terms, length);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            docs.put(key, doc);
+            totalLength += length;
+            terms.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, tf));
+            if (nameKey != null && !nameKey.isEmpty()) {
+                names.computeIfAbsent(nameKey, k -> new LinkedHashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(String key) {
+        Doc doc = docs.remove(key);
+        if (doc == null) {
+            return;
+        }
+        totalLength -= doc.length();
+        for (String term : doc.terms().keySet()) {
+            Map<String, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(key);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        if (doc.nameKey() != null) {
+            Set<String> keys = names.get(doc.nameKey());
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    names.remove(doc.nameKey());
+                }
+            }
+        }
+    }
+
+    private static SearchHitDTO toHit(Doc doc, double score) {
+        return new SearchHitDTO(doc.type(), doc.id(), doc.businessId(), doc.name(), score);
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.business.search;
+
+import com.example.business.entity.Business;
+import com.example.business.entity.Commodity;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * 事务提交后把商家、商品的增删改同步到索引；回滚的写入不会进入索引。
+ */
+class CatalogIndexListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final CatalogSearch catalogSearch;
+
+    CatalogIndexListener(CatalogSearch catalogSearch) {
+        this.catalogSearch = catalogSearch;
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Business.class || type == Commodity.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        put(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        put(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Business business) {
+            catalogSearch.apply(index -> index.remove(CatalogIndex.TYPE_BUSINESS, business.getId()));
+        } else if (event.getEntity() instanceof Commodity commodity) {
+            catalogSearch.apply(index -> index.remove(CatalogIndex.TYPE_COMMODITY, commodity.getId()));
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void put(Object entity) {
+        if (entity instanceof Business business) {
+            catalogSearch.apply(index -> index.put(business));
+        } else if (entity instanceof Commodity commodity) {
+            catalogSearch.apply(index -> index.put(commodity));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.business.search;
+
+import com.example.business.dao.BusinessDAO;
+import com.example.business.dao.CommodityDAO;
+import com.example.business.dto.SearchHitDTO;
+import com.example.business.entity.Business;
+import com.example.business.entity.Commodity;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 商家、商品搜索索引的持有者：启动后从库中分页全量构建，之后经 Hibernate 提交后事件增量更新；
+ * 绕过本服务直接改库的数据由定期全量重建补上，重建完成后整体替换。
+ */
+@Component
+public class CatalogSearch {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearch.class);
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private BusinessDAO businessDAO;
+
+    @Autowired
+    private CommodityDAO commodityDAO;
+
+    @Autowired
+    @Qualifier("entityManagerFactory")
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${business.search.rebuild-interval-seconds:600}")
+    private long rebuildIntervalSeconds;
+
+    private volatile CatalogIndex index = new CatalogIndex();
+    // 重建过程中的新索引，期间的增量同时写入，替换后不丢更新
+    private volatile CatalogIndex building;
+    private volatile boolean ready;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "catalog-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        CatalogIndexListener listener = new CatalogIndexListener(this);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+        scheduler.scheduleWithFixedDelay(this::rebuild, 0, rebuildIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            CatalogIndex rebuilt = new CatalogIndex();
+            building = rebuilt;
+            int page = 0;
+            List<Business> businesses;
+            do {
+                businesses = businessDAO.findAll(PageRequest.of(page++, PAGE_SIZE, Sort.by("id"))).getContent();
+                businesses.forEach(rebuilt::put);
+            } while (businesses.size() == PAGE_SIZE);
+            page = 0;
+            List<Commodity> commodities;
+            do {
+                commodities = commodityDAO.findAll(PageRequest.of(page++, PAGE_SIZE, Sort.by("id"))).getContent();
+                commodities.forEach(rebuilt::put);
+            } while (commodities.size() == PAGE_SIZE);
+            index = rebuilt;
+            ready = true;
+            log.info("商家商品搜索索引重建完成, docs={}, {} ms", rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("重建商家商品搜索索引失败", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    // 增量更新：当前索引与重建中的索引都要更新。先读 building 再读 index，
+    // 否则可能读到旧 index 后重建恰好完成并清空 building，这次更新就丢了
+    void apply(Consumer<CatalogIndex> change) {
+        CatalogIndex next = building;
+        if (next != null) {
+            change.accept(next);
+        }
+        CatalogIndex current = index;
+        if (current != next) {
+            change.accept(current);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<SearchHitDTO> search(String query, String type, int limit) {
+        return index.search(query, type, limit);
+    }
+
+    public List<SearchHitDTO> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.business.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 分词：连续的字母、数字为一个词（转小写）；汉字不依赖词典，索引时切成单字与相邻两字（bigram），
+ * 查询时单个汉字按单字匹配，两个及以上按 bigram 匹配，相当于短语中每两个字都要出现。
+ */
+final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        split(text, terms::add, han -> {
+            for (int i = 0; i < han.length(); i++) {
+                terms.add(han.substring(i, i + 1));
+                if (i + 1 < han.length()) {
+                    terms.add(han.substring(i, i + 2));
+                }
+            }
+        });
+        return terms;
+    }
+
+    // 去重后的查询词
+    static Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        split(text, terms::add, han -> {
+            if (han.length() == 1) {
+                terms.add(han);
+            }
+            for (int i = 0; i + 1 < han.length(); i++) {
+                terms.add(han.substring(i, i + 2));
+            }
+        });
+        return terms;
+    }
+
+    private static void split(String text, TermSink words, TermSink hanRuns) {
+        if (text == null) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        StringBuilder han = new StringBuilder();
+        for (int i = 0; i < lower.length(); ) {
+            int cp = lower.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.UnicodeScript.of(cp) == Character.UnicodeScript.HAN) {
+                flush(word, words);
+                han.appendCodePoint(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flush(han, hanRuns);
+                word.appendCodePoint(cp);
+            } else {
+                flush(word, words);
+                flush(han, hanRuns);
+            }
+        }
+        flush(word, words);
+        flush(han, hanRuns);
+    }
+
+    private static void flush(StringBuilder buffer, TermSink sink) {
+        if (buffer.length() > 0) {
+            sink.accept(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+
+    private interface TermSink {
+        void accept(String term);
+    }
+}
@@ -1,31 +1,22 @@
 package com.example.business.service;
 
 import com.example.business.dao.BusinessDAO;
+import com.example.business.dto.BusinessDTO;
 import com.example.business.entity.Business;
 import com.example.common.Result;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-// 工具类
-class ImageUtil {
-    public static String imageToBase64(String imageFileName) {
-        try (java.io.InputStream is = new org.springframework.core.io.ClassPathResource("image/" + imageFileName).getInputStream()) {
-            byte[] bytes = is.readAllBytes();
-            String base64 = java.util.Base64.getEncoder().encodeToString(bytes);
-            String type = "png";
-            if (imageFileName.endsWith(".jpg") || imageFileName.endsWith(".jpeg")) {
-                type = "jpeg";
-            }
-            return "data:image/" + type + ";base64," + base64;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "";
-        }
-    }
-}
+import java.util.List;
+import java.util.Set;
 
 @Service
 public class BusinessService {
+    private static final Set<String> SORT_FIELDS = Set.of("score", "monthSold", "deliveryFees");
+    private static final int MAX_PAGE_SIZE = 50;
+
     @Autowired
     private BusinessDAO businessDAO;
 
@@ -34,19 +25,26 @@ public class BusinessService {
         return business != null ? Result.success(business) : Result.error("商家不存在");
     }
 
-    public Result list() {
-        return Result.success(businessDAO.findAll().stream().map(b -> {
-            com.example.business.dto.BusinessDTO dto = new com.example.business.dto.BusinessDTO();
-            dto.setId(b.getId());
-            dto.setDescription(b.getBusinessDescription());
-            dto.setName(b.getName());
-            dto.setDeliveryFees(b.getDeliveryFees());
-            // 图片转base64
-            dto.setImage(ImageUtil.imageToBase64(b.getImage()));
-            dto.setMiniDeliveryFee(b.getMiniDeliveryFee());
-            dto.setMonthSold(b.getMonthSold());
-            dto.setScore(b.getScore());
-            return dto;
-        }).toList());
+    // 返回一页商家；返回条数小于 size 即为最后一页。配送费默认从低到高，评分、月售默认从高到低，同值按 id
+    public Result list(int page, int size, String sort, String direction, Long foodTypeId, Double maxMiniDeliveryFee) {
+        if (!SORT_FIELDS.contains(sort)) {
+            return Result.error("不支持的排序字段: " + sort);
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return Result.error("分页参数错误，size 取值 1-" + MAX_PAGE_SIZE);
+        }
+        Sort.Direction order = direction == null
+                ? ("deliveryFees".equals(sort) ? Sort.Direction.ASC : Sort.Direction.DESC)
+                : Sort.Direction.fromOptionalString(direction).orElse(null);
+        if (order == null) {
+            return Result.error("排序方向只能是 asc 或 desc");
+        }
+        List<BusinessDTO> businesses = businessDAO.findPage(foodTypeId, maxMiniDeliveryFee,
+                PageRequest.of(page, size, Sort.by(order, sort, "id"))).getContent();
+        // 图片转base64，只处理当前页
+        for (BusinessDTO dto : businesses) {
+            dto.setImage(ImageUtil.imageToBase64(dto.getImage()));
+        }
+        return Result.success(businesses);
     }
-} 
\ No newline at end of file
+}
@@ -4,10 +4,10 @@ import com.example.business.dao.CommodityDAO;
 import com.example.business.entity.Commodity;
 import com.example.common.Result;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import java.io.InputStream;
 import java.util.List;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.Base64;
 
 @Service
@@ -15,10 +15,10 @@ public class CommodityService {
     @Autowired
     private CommodityDAO commodityDAO;
 
+    // 从 classpath 读取，与 ImageUtil 一致，不依赖工作目录（可执行 jar、native image 中同样可用）
     private String getImageBase64(String fileName) {
-        try {
-            byte[] bytes = Files.readAllBytes(Paths.get("src/main/resources/image/" + fileName));
-            return Base64.getEncoder().encodeToString(bytes);
+        try (InputStream is = new ClassPathResource("image/" + fileName).getInputStream()) {
+            return Base64.getEncoder().encodeToString(is.readAllBytes());
         } catch (Exception e) {
             return null;
         }
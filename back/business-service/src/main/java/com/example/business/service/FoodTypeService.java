@@ -6,9 +6,6 @@ import com.example.common.Result;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.util.List;
-import org.springframework.core.io.ClassPathResource;
-import java.io.InputStream;
-import java.util.Base64;
 
 @Service
 public class FoodTypeService {
@@ -25,21 +22,3 @@ public class FoodTypeService {
         return Result.success(list);
     }
 }
-
-// 工具类
-class ImageUtil {
-    public static String imageToBase64(String imageFileName) {
-        try (InputStream is = new ClassPathResource("image/" + imageFileName).getInputStream()) {
-            byte[] bytes = is.readAllBytes();
-            String base64 = Base64.getEncoder().encodeToString(bytes);
-            String type = "png";
-            if (imageFileName.endsWith(".jpg") || imageFileName.endsWith(".jpeg")) {
-                type = "jpeg";
-            }
-            return "data:image/" + type + ";base64," + base64;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "";
-        }
-    }
-} 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.business.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.InputStream;
+import java.util.Base64;
+
+// 工具类：classpath 下 image/ 目录中的图片转 data URI，BusinessService 与 FoodTypeService 共用
+class ImageUtil {
+    private static final Logger log = LoggerFactory.getLogger(ImageUtil.class);
+
+    public static String imageToBase64(String imageFileName) {
+        try (InputStream is = new ClassPathResource("image/" + imageFileName).getInputStream()) {
+            byte[] bytes = is.readAllBytes();
+            String base64 = Base64.getEncoder().encodeToString(bytes);
+            String type = "png";
+            if (imageFileName.endsWith(".jpg") || imageFileName.endsWith(".jpeg")) {
+                type = "jpeg";
+            }
+            return "data:image/" + type + ";base64," + base64;
+        } catch (Exception e) {
+            log.warn("读取图片失败: {}", imageFileName, e);
+            return "";
+        }
+    }
+}
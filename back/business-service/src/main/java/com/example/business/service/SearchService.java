@@ -0,0 +1,49 @@
+package com.example.business.service;
+
+import com.example.business.search.CatalogIndex;
+import com.example.business.search.CatalogSearch;
+import com.example.common.Result;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SearchService {
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private CatalogSearch catalogSearch;
+
+    // 全文搜索商家、商品，按相关度排序；只查内存索引，不访问数据库
+    @Timed(value = "business.search", extraTags = {"method", "search"}, histogram = true)
+    public Result search(String q, String type, int limit) {
+        if (q == null || q.isBlank()) {
+            return Result.error("搜索词不能为空");
+        }
+        if (type != null && !CatalogIndex.TYPE_BUSINESS.equals(type) && !CatalogIndex.TYPE_COMMODITY.equals(type)) {
+            return Result.error("type 只能是 business 或 commodity");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Result.error("limit 取值 1-" + MAX_LIMIT);
+        }
+        if (!catalogSearch.isReady()) {
+            return Result.error("搜索索引加载中");
+        }
+        return Result.success(catalogSearch.search(q, type, limit));
+    }
+
+    // 输入联想：名称前缀匹配
+    @Timed(value = "business.search", extraTags = {"method", "suggest"}, histogram = true)
+    public Result suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Result.error("前缀不能为空");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Result.error("limit 取值 1-" + MAX_LIMIT);
+        }
+        if (!catalogSearch.isReady()) {
+            return Result.error("搜索索引加载中");
+        }
+        return Result.success(catalogSearch.suggest(prefix, limit));
+    }
+}
@@ -0,0 +1,29 @@
+-- 与 mysql/V1__baseline.sql 相同的表结构，H2 只用于本地压测与测试
+CREATE TABLE IF NOT EXISTS business (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    businessDescription VARCHAR(255),
+    name                VARCHAR(255),
+    deliveryFees        DOUBLE PRECISION,
+    image               VARCHAR(255),
+    miniDeliveryFee     DOUBLE PRECISION,
+    monthSold           INT,
+    score               DOUBLE PRECISION,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS commodity (
+    id                   BIGINT NOT NULL AUTO_INCREMENT,
+    commodityDescription VARCHAR(255),
+    commodityName        VARCHAR(255),
+    image                VARCHAR(255),
+    price                DOUBLE PRECISION,
+    businessId           BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS food_type (
+    id   BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    img  VARCHAR(255),
+    PRIMARY KEY (id)
+);
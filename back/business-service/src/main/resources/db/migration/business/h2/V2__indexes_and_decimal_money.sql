@@ -0,0 +1,7 @@
+-- 与 mysql/V2__indexes_and_decimal_money.sql 相同的变更
+ALTER TABLE business ALTER COLUMN deliveryFees SET DATA TYPE DECIMAL(10, 2);
+ALTER TABLE business ALTER COLUMN miniDeliveryFee SET DATA TYPE DECIMAL(10, 2);
+ALTER TABLE commodity ALTER COLUMN price SET DATA TYPE DECIMAL(10, 2);
+
+ALTER TABLE commodity ALTER COLUMN businessId SET NOT NULL;
+CREATE INDEX idx_commodity_business_id ON commodity (businessId);
@@ -0,0 +1,7 @@
+-- 与 mysql/V3__business_food_type_and_list_indexes.sql 相同的变更
+ALTER TABLE business ADD COLUMN foodTypeId BIGINT;
+CREATE INDEX idx_business_food_type_id ON business (foodTypeId);
+
+CREATE INDEX idx_business_score ON business (score, id);
+CREATE INDEX idx_business_month_sold ON business (monthSold, id);
+CREATE INDEX idx_business_delivery_fees ON business (deliveryFees, id);
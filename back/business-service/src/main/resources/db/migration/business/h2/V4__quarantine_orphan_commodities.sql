@@ -0,0 +1,8 @@
+-- 与 mysql/V4__quarantine_orphan_commodities.sql 相同的变更
+CREATE TABLE IF NOT EXISTS commodity_orphan AS SELECT * FROM commodity WITH NO DATA;
+ALTER TABLE commodity_orphan ALTER COLUMN businessId SET NULL;
+
+INSERT INTO commodity_orphan SELECT * FROM commodity WHERE businessId IS NULL;
+DELETE FROM commodity WHERE id IN (SELECT id FROM commodity_orphan);
+
+ALTER TABLE commodity ALTER COLUMN businessId SET NOT NULL;
@@ -0,0 +1,29 @@
+-- 与之前 hbm2ddl 建出的表一致；已有表的库按版本 0 基线化后执行本脚本不会改动已有表
+CREATE TABLE IF NOT EXISTS business (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    businessDescription VARCHAR(255),
+    name                VARCHAR(255),
+    deliveryFees        DOUBLE,
+    image               VARCHAR(255),
+    miniDeliveryFee     DOUBLE,
+    monthSold           INT,
+    score               DOUBLE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS commodity (
+    id                   BIGINT NOT NULL AUTO_INCREMENT,
+    commodityDescription VARCHAR(255),
+    commodityName        VARCHAR(255),
+    image                VARCHAR(255),
+    price                DOUBLE,
+    businessId           BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS food_type (
+    id   BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    img  VARCHAR(255),
+    PRIMARY KEY (id)
+);
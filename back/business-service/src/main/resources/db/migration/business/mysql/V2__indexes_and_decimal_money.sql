@@ -0,0 +1,8 @@
+-- 金额改为定点数，按分保存
+ALTER TABLE business MODIFY COLUMN deliveryFees DECIMAL(10, 2);
+ALTER TABLE business MODIFY COLUMN miniDeliveryFee DECIMAL(10, 2);
+ALTER TABLE commodity MODIFY COLUMN price DECIMAL(10, 2);
+
+-- 商品列表按商家查询（CommodityDAO.findByBusinessId）
+ALTER TABLE commodity MODIFY COLUMN businessId BIGINT NOT NULL;
+CREATE INDEX idx_commodity_business_id ON commodity (businessId);
@@ -0,0 +1,8 @@
+-- 商家所属分类，首页按分类筛选商家
+ALTER TABLE business ADD COLUMN foodTypeId BIGINT;
+CREATE INDEX idx_business_food_type_id ON business (foodTypeId);
+
+-- 商家列表按评分、月售、配送费排序分页（BusinessDAO.findPage，同值按 id），按索引顺序读取一页即可停止
+CREATE INDEX idx_business_score ON business (score, id);
+CREATE INDEX idx_business_month_sold ON business (monthSold, id);
+CREATE INDEX idx_business_delivery_fees ON business (deliveryFees, id);
@@ -0,0 +1,8 @@
+-- hbm2ddl 建的旧库允许 businessId 为空：这类商品不删除，移到隔离表留待人工核对，再确认非空约束
+CREATE TABLE IF NOT EXISTS commodity_orphan LIKE commodity;
+ALTER TABLE commodity_orphan MODIFY COLUMN businessId BIGINT NULL;
+
+INSERT INTO commodity_orphan SELECT * FROM commodity WHERE businessId IS NULL;
+DELETE FROM commodity WHERE id IN (SELECT id FROM commodity_orphan);
+
+ALTER TABLE commodity MODIFY COLUMN businessId BIGINT NOT NULL;
@@ -5,28 +5,28 @@ import lombok.Setter;
 
 @Getter
 @Setter
-public class Result {
+public class Result<T> {
     private boolean success;
     private String message;
-    private Object data;
+    private T data;
 
-    public static Result success() {
-        Result result = new Result();
+    public static <T> Result<T> success() {
+        Result<T> result = new Result<>();
         result.setSuccess(true);
         return result;
     }
 
-    public static Result success(Object data) {
-        Result result = new Result();
+    public static <T> Result<T> success(T data) {
+        Result<T> result = new Result<>();
         result.setSuccess(true);
         result.setData(data);
         return result;
     }
 
-    public static Result error(String message) {
-        Result result = new Result();
+    public static <T> Result<T> error(String message) {
+        Result<T> result = new Result<>();
         result.setSuccess(false);
         result.setMessage(message);
         return result;
     }
-} 
\ No newline at end of file
+}
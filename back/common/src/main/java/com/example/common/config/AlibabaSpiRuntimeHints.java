@@ -0,0 +1,50 @@
+package com.example.common.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * native image 构建时使用（经 META-INF/spring/aot.factories 注册）：Nacos 客户端与 Sentinel 通过 ServiceLoader 加载
+ * META-INF/services/com.alibaba.* 中列出的实现类，Nacos 的 gRPC 请求/响应再由 Jackson 按字段读写。
+ * 这里在构建期读取这些文件，登记文件本身以及其中每个类（连同父类）的构造器、方法与字段。
+ */
+public class AlibabaSpiRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String SERVICES = "META-INF/services/";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(classLoader)
+                    .getResources("classpath*:" + SERVICES + "com.alibaba.*");
+            for (Resource resource : resources) {
+                hints.resources().registerPattern(SERVICES + resource.getFilename());
+                for (String line : resource.getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+                    String className = line.replaceAll("#.*", "").trim();
+                    if (!className.isEmpty() && ClassUtils.isPresent(className, classLoader)) {
+                        registerWithSuperclasses(hints, ClassUtils.resolveClassName(className, classLoader));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取 META-INF/services 失败", e);
+        }
+    }
+
+    private static void registerWithSuperclasses(RuntimeHints hints, Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hints.reflection().registerType(current,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+    }
+}
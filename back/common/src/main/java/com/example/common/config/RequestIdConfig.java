@@ -0,0 +1,39 @@
+package com.example.common.config;
+
+import com.example.common.web.RequestIdFilter;
+import feign.RequestInterceptor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 注册请求 ID 过滤器；引入了 Feign 的服务同时把请求 ID 透传给下游
+ */
+@Configuration
+public class RequestIdConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+        FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(new RequestIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "feign.RequestInterceptor")
+    static class FeignRequestIdConfig {
+
+        @Bean
+        public RequestInterceptor requestIdInterceptor() {
+            return template -> {
+                String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+                if (requestId != null) {
+                    template.header(RequestIdFilter.HEADER, requestId);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 让接口在请求头 Accept 为 application/x-jackson-smile 时返回 Smile 二进制格式。
+ * 转换器放在最后，浏览器等 Accept 为 JSON 或通配符的请求仍返回 JSON。
+ */
+@Configuration
+public class SmileWebConfig implements WebMvcConfigurer {
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.common.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 启动耗时报告与延迟初始化。
+ * main 中设置 BufferingApplicationStartup 后，就绪时输出耗时最长的 bean（含其依赖的创建时间），完整时间线见 /actuator/startup。
+ * 开启 spring.main.lazy-initialization 时，数据源、EntityManagerFactory、安全过滤链与 JwtDecoder 仍在启动阶段创建，
+ * 表结构校验失败、数据库不可达在启动时暴露，而不是推迟到第一个请求。
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+
+    // 按类名判断，服务未引入对应依赖时跳过
+    private static final String[] EAGER_TYPES = {
+            "javax.sql.DataSource",
+            "jakarta.persistence.EntityManagerFactory",
+            "org.springframework.security.web.SecurityFilterChain",
+            "org.springframework.security.oauth2.jwt.JwtDecoder"
+    };
+
+    @Value("${startup.report.top-beans:10}")
+    private int topBeans;
+
+    // BeanFactoryPostProcessor 阶段使用，需为 static
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return (beanName, beanDefinition, beanType) -> {
+            if (beanType == null) {
+                return false;
+            }
+            for (String typeName : EAGER_TYPES) {
+                if (ClassUtils.isPresent(typeName, beanType.getClassLoader())
+                        && ClassUtils.resolveClassName(typeName, beanType.getClassLoader()).isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @EventListener
+    public void report(ApplicationReadyEvent event) {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        long ready = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1;
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            log.info("启动完成: 进程启动到就绪 {} ms, Spring 启动 {} ms", uptime, ready);
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> slowest = buffering.getBufferedTimeline().getEvents().stream()
+                .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topBeans)
+                .toList();
+        String beans = slowest.stream()
+                .map(e -> beanName(e.getStartupStep()) + "=" + e.getDuration().toMillis() + "ms")
+                .collect(Collectors.joining(", "));
+        log.info("启动完成: 进程启动到就绪 {} ms, Spring 启动 {} ms, 耗时最长的 bean: {}", uptime, ready, beans);
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
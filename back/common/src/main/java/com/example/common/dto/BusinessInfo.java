@@ -0,0 +1,33 @@
+package com.example.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// business-service 商家信息的跨服务契约
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BusinessInfo {
+    private Long id;
+    private String name;
+    private String businessDescription;
+    private Double deliveryFees;
+    private Double miniDeliveryFee;
+    private Integer monthSold;
+    private Double score;
+    private String image;
+    // getter/setter
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getBusinessDescription() { return businessDescription; }
+    public void setBusinessDescription(String businessDescription) { this.businessDescription = businessDescription; }
+    public Double getDeliveryFees() { return deliveryFees; }
+    public void setDeliveryFees(Double deliveryFees) { this.deliveryFees = deliveryFees; }
+    public Double getMiniDeliveryFee() { return miniDeliveryFee; }
+    public void setMiniDeliveryFee(Double miniDeliveryFee) { this.miniDeliveryFee = miniDeliveryFee; }
+    public Integer getMonthSold() { return monthSold; }
+    public void setMonthSold(Integer monthSold) { this.monthSold = monthSold; }
+    public Double getScore() { return score; }
+    public void setScore(Double score) { this.score = score; }
+    public String getImage() { return image; }
+    public void setImage(String image) { this.image = image; }
+}
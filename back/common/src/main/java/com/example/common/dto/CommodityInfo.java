@@ -0,0 +1,27 @@
+package com.example.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// business-service 商品信息的跨服务契约
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CommodityInfo {
+    private Long id;
+    private String commodityName;
+    private String commodityDescription;
+    private Double price;
+    private String image;
+    private Long businessId;
+    // getter/setter
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getCommodityName() { return commodityName; }
+    public void setCommodityName(String commodityName) { this.commodityName = commodityName; }
+    public String getCommodityDescription() { return commodityDescription; }
+    public void setCommodityDescription(String commodityDescription) { this.commodityDescription = commodityDescription; }
+    public Double getPrice() { return price; }
+    public void setPrice(Double price) { this.price = price; }
+    public String getImage() { return image; }
+    public void setImage(String image) { this.image = image; }
+    public Long getBusinessId() { return businessId; }
+    public void setBusinessId(Long businessId) { this.businessId = businessId; }
+}
@@ -0,0 +1,27 @@
+package com.example.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+// order-service 订单详情的跨服务契约，字段与 OrderTableDTO 一致
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderInfo {
+    private Long orderId;
+    private Double payAmount;
+    private String businessName;
+    private Double businessDeliveryFees;
+    private List<OrderItemInfo> orderItemDTOs;
+    // getter/setter
+    public Long getOrderId() { return orderId; }
+    public void setOrderId(Long orderId) { this.orderId = orderId; }
+    public Double getPayAmount() { return payAmount; }
+    public void setPayAmount(Double payAmount) { this.payAmount = payAmount; }
+    public String getBusinessName() { return businessName; }
+    public void setBusinessName(String businessName) { this.businessName = businessName; }
+    public Double getBusinessDeliveryFees() { return businessDeliveryFees; }
+    public void setBusinessDeliveryFees(Double businessDeliveryFees) { this.businessDeliveryFees = businessDeliveryFees; }
+    public List<OrderItemInfo> getOrderItemDTOs() { return orderItemDTOs; }
+    public void setOrderItemDTOs(List<OrderItemInfo> orderItemDTOs) { this.orderItemDTOs = orderItemDTOs; }
+}
@@ -0,0 +1,29 @@
+package com.example.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// order-service 订单明细的跨服务契约，字段与 OrderItemDTO 一致
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderItemInfo {
+    private Long id;
+    private Integer quanity;
+    private Long commodityId;
+    private String productName;
+    private Double commodityPrice;
+    private String image;
+    // getter/setter
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Integer getQuanity() { return quanity; }
+    public void setQuanity(Integer quanity) { this.quanity = quanity; }
+    public Long getCommodityId() { return commodityId; }
+    public void setCommodityId(Long commodityId) { this.commodityId = commodityId; }
+    public String getProductName() { return productName; }
+    public void setProductName(String productName) { this.productName = productName; }
+    public Double getCommodityPrice() { return commodityPrice; }
+    public void setCommodityPrice(Double commodityPrice) { this.commodityPrice = commodityPrice; }
+    public String getImage() { return image; }
+    public void setImage(String image) { this.image = image; }
+}
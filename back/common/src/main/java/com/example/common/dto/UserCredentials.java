@@ -0,0 +1,24 @@
+package com.example.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// 登录校验用的用户名与密码，只在 auth-service 与 user-service 之间传输
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserCredentials {
+    private String username;
+    private String password;
+
+    public UserCredentials() {
+    }
+
+    public UserCredentials(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    // getter/setter
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+}
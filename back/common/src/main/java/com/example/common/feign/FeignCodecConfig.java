@@ -0,0 +1,50 @@
+package com.example.common.feign;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Feign 客户端公共编解码配置，通过 @EnableFeignClients(defaultConfiguration = ...) 引入。
+ * 响应直接反序列化为 Result&lt;T&gt; 等类型化对象；开启 app.feign.smile.enabled 后
+ * 服务间调用优先使用 Smile 二进制格式，对端不支持时回退为 JSON。
+ */
+public class FeignCodecConfig {
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public Decoder feignDecoder(ObjectMapper objectMapper,
+                                ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        HttpMessageConverters converters = new HttpMessageConverters(false, List.of(
+                new MappingJackson2HttpMessageConverter(objectMapper),
+                new MappingJackson2SmileHttpMessageConverter(),
+                new StringHttpMessageConverter(StandardCharsets.UTF_8)));
+        return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(() -> converters, customizers)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.feign.smile.enabled", havingValue = "true")
+    public RequestInterceptor smileAcceptInterceptor() {
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, APPLICATION_SMILE_VALUE, MediaType.APPLICATION_JSON_VALUE);
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.common.feign;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 导出 Feign 使用的 HttpClient5 连接池指标，连接池本身由 spring.cloud.openfeign.httpclient.* 配置：
+ * 整个池的 httpcomponents.httpclient.pool.*（pool=feign），以及按下游实例拆分的 feign.pool.route.*。
+ * 所有 Feign 客户端共用一个池，池按目标地址（route，host:port）分配连接；client 标签为该地址在服务发现中对应的服务名，
+ * 查不到时为 unknown。下游实例会上下线，route 列表每 30 秒刷新一次。
+ */
+@Configuration
+public class FeignPoolMetricsConfig {
+    private static final Logger log = LoggerFactory.getLogger(FeignPoolMetricsConfig.class);
+
+    private static final long ROUTE_REFRESH_SECONDS = 30;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "feign-pool-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager,
+                                                  ObjectProvider<DiscoveryClient> discoveryClient) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+                RouteGauges gauges = new RouteGauges(registry, pool, discoveryClient);
+                scheduler.scheduleWithFixedDelay(gauges::refresh, 0, ROUTE_REFRESH_SECONDS, TimeUnit.SECONDS);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static class RouteGauges {
+        private final PoolingHttpClientConnectionManager pool;
+        private final ObjectProvider<DiscoveryClient> discoveryClient;
+        private final MultiGauge leased;
+        private final MultiGauge available;
+        private final MultiGauge pending;
+        private final MultiGauge max;
+
+        RouteGauges(MeterRegistry registry, PoolingHttpClientConnectionManager pool,
+                    ObjectProvider<DiscoveryClient> discoveryClient) {
+            this.pool = pool;
+            this.discoveryClient = discoveryClient;
+            this.leased = MultiGauge.builder("feign.pool.route.connections").tag("state", "leased")
+                    .description("按下游实例统计的已借出连接数").register(registry);
+            this.available = MultiGauge.builder("feign.pool.route.connections").tag("state", "available")
+                    .description("按下游实例统计的空闲连接数").register(registry);
+            this.pending = MultiGauge.builder("feign.pool.route.pending")
+                    .description("按下游实例统计的等待连接的请求数").register(registry);
+            this.max = MultiGauge.builder("feign.pool.route.max")
+                    .description("每个下游实例的连接上限（max-connections-per-route）").register(registry);
+        }
+
+        void refresh() {
+            try {
+                Map<String, String> clients = clientsByAddress();
+                List<MultiGauge.Row<?>> leasedRows = new ArrayList<>();
+                List<MultiGauge.Row<?>> availableRows = new ArrayList<>();
+                List<MultiGauge.Row<?>> pendingRows = new ArrayList<>();
+                List<MultiGauge.Row<?>> maxRows = new ArrayList<>();
+                for (HttpRoute route : pool.getRoutes()) {
+                    String address = route.getTargetHost().toHostString();
+                    Tags tags = Tags.of("route", address, "client", clients.getOrDefault(address, "unknown"));
+                    leasedRows.add(row(tags, route, PoolStats::getLeased));
+                    availableRows.add(row(tags, route, PoolStats::getAvailable));
+                    pendingRows.add(row(tags, route, PoolStats::getPending));
+                    maxRows.add(row(tags, route, PoolStats::getMax));
+                }
+                // overwrite=true：已下线实例的 route 随之移除
+                leased.register(leasedRows, true);
+                available.register(availableRows, true);
+                pending.register(pendingRows, true);
+                max.register(maxRows, true);
+            } catch (Exception e) {
+                log.warn("刷新 Feign 连接池 route 指标失败", e);
+            }
+        }
+
+        private MultiGauge.Row<?> row(Tags tags, HttpRoute route, ToDoubleFunction<PoolStats> value) {
+            return MultiGauge.Row.of(tags, pool, p -> value.applyAsDouble(p.getStats(route)));
+        }
+
+        // host:port -> 服务名，没有服务发现时为空
+        private Map<String, String> clientsByAddress() {
+            Map<String, String> clients = new HashMap<>();
+            DiscoveryClient client = discoveryClient.getIfAvailable();
+            if (client == null) {
+                return clients;
+            }
+            for (String service : client.getServices()) {
+                for (ServiceInstance instance : client.getInstances(service)) {
+                    clients.put(instance.getHost() + ":" + instance.getPort(), service);
+                }
+            }
+            return clients;
+        }
+    }
+}
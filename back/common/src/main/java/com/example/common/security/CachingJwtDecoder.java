@@ -0,0 +1,110 @@
+package com.example.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 缓存验签结果的 JwtDecoder：同一令牌在过期前只验一次签名，缓存键为令牌的 SHA-256。
+ * 命中缓存时仍执行 hitValidator（注销检查），令牌注销后立即失效。
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> hitValidator;
+    private final Cache<String, Jwt> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter failures;
+    private final Timer verifyTimer;
+
+    public CachingJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> hitValidator,
+                             long maximumSize, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.hitValidator = hitValidator;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.hits = Counter.builder("jwt.decode").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("jwt.decode").tag("result", "miss").register(registry);
+        this.failures = Counter.builder("jwt.decode").tag("result", "invalid").register(registry);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("缓存未命中时的验签与校验耗时")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("jwt.cache.size", cache, Cache::estimatedSize).register(registry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+            OAuth2TokenValidatorResult result = hitValidator.validate(cached);
+            if (result.hasErrors()) {
+                cache.invalidate(key);
+                failures.increment();
+                throw new JwtValidationException(result.getErrors().iterator().next().getDescription(), result.getErrors());
+            }
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        Jwt jwt;
+        try {
+            jwt = verifyTimer.record(() -> delegate.decode(token));
+        } catch (JwtException e) {
+            failures.increment();
+            throw e;
+        }
+        // 没有过期时间的令牌不缓存
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 缓存条目在令牌 exp 时过期
+    private static class UntilTokenExpiry implements Expiry<String, Jwt> {
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
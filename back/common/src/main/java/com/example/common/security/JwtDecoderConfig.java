@@ -0,0 +1,58 @@
+package com.example.common.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 资源服务的 JwtDecoder：本地验签（JWK 集合后台刷新）、缓存验签结果，并检查令牌是否已注销，不回调 auth-service。
+ * 需要的服务与 TokenRevocationConfig 一起通过 @Import 引入。
+ */
+@Configuration
+public class JwtDecoderConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RefreshingJwkSource jwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${auth.jwt.jwks.refresh-interval-seconds:300}") long refreshIntervalSeconds,
+            @Value("${auth.jwt.jwks.unknown-kid-wait-millis:1000}") long unknownKidWaitMillis,
+            MeterRegistry registry) throws Exception {
+        return new RefreshingJwkSource(new URL(jwkSetUri), refreshIntervalSeconds, unknownKidWaitMillis, registry);
+    }
+
+    // 接受的签名算法，按令牌头中的 kid/alg 从 JWK 集合中选择公钥
+    @Bean
+    public JwtDecoder jwtDecoder(RefreshingJwkSource jwkSource,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.jws-algorithms:RS256,ES256}") List<String> jwsAlgorithms,
+                                 @Value("${auth.jwt.cache.maximum-size:10000}") long maximumSize,
+                                 RevokedTokenCache revokedTokenCache,
+                                 MeterRegistry registry) {
+        Set<JWSAlgorithm> algorithms = new HashSet<>();
+        for (String name : jwsAlgorithms) {
+            algorithms.add(JWSAlgorithm.parse(name.trim()));
+        }
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+        // 时间等声明由下面的 Spring 校验器统一检查
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        RevokedTokenValidator revokedTokenValidator = new RevokedTokenValidator(revokedTokenCache);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), revokedTokenValidator));
+        return new CachingJwtDecoder(decoder, revokedTokenValidator, maximumSize, registry);
+    }
+}
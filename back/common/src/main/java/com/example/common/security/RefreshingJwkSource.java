@@ -0,0 +1,116 @@
+package com.example.common.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 后台定时拉取 auth-service 的 JWK 集合，请求线程只读内存中的副本。
+ * 遇到未知 kid（密钥刚轮换）时触发一次限频的异步刷新，请求最多等待 unknownKidWaitMillis。
+ */
+public class RefreshingJwkSource implements JWKSource<SecurityContext> {
+    private static final Logger log = LoggerFactory.getLogger(RefreshingJwkSource.class);
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    private static final int READ_TIMEOUT_MILLIS = 2000;
+    private static final int SIZE_LIMIT = 64 * 1024;
+    private static final long MIN_UNKNOWN_KID_REFRESH_MILLIS = 10_000;
+
+    private final URL jwkSetUrl;
+    private final long unknownKidWaitMillis;
+    private final Timer refreshTimer;
+    private final Counter refreshFailures;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "jwk-set-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile JWKSet jwkSet;
+    private CompletableFuture<Void> inflight;
+    private long lastUnknownKidRefresh;
+
+    public RefreshingJwkSource(URL jwkSetUrl, long refreshIntervalSeconds, long unknownKidWaitMillis,
+                               MeterRegistry registry) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.unknownKidWaitMillis = unknownKidWaitMillis;
+        this.refreshTimer = Timer.builder("jwt.jwks.refresh").register(registry);
+        this.refreshFailures = Counter.builder("jwt.jwks.refresh.failures").register(registry);
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current == null) {
+            // 启动后首批请求等待第一次拉取完成
+            await(refreshAsync(), READ_TIMEOUT_MILLIS + CONNECT_TIMEOUT_MILLIS);
+            current = jwkSet;
+            if (current == null) {
+                throw new KeySourceException("无法获取 JWK 集合: " + jwkSetUrl);
+            }
+        }
+        List<JWK> matches = selector.select(current);
+        if (matches.isEmpty() && allowUnknownKidRefresh()) {
+            await(refreshAsync(), unknownKidWaitMillis);
+            matches = selector.select(jwkSet);
+        }
+        return matches;
+    }
+
+    private void refresh() {
+        try {
+            jwkSet = refreshTimer.recordCallable(() ->
+                    JWKSet.load(jwkSetUrl, CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS, SIZE_LIMIT));
+        } catch (Exception e) {
+            // 拉取失败时继续使用上一次的公钥
+            refreshFailures.increment();
+            log.warn("刷新 JWK 集合失败: {}", jwkSetUrl, e);
+        }
+    }
+
+    private synchronized CompletableFuture<Void> refreshAsync() {
+        if (inflight == null || inflight.isDone()) {
+            inflight = CompletableFuture.runAsync(this::refresh, scheduler);
+        }
+        return inflight;
+    }
+
+    private synchronized boolean allowUnknownKidRefresh() {
+        long now = System.currentTimeMillis();
+        if (now - lastUnknownKidRefresh < MIN_UNKNOWN_KID_REFRESH_MILLIS) {
+            return false;
+        }
+        lastUnknownKidRefresh = now;
+        return true;
+    }
+
+    private static void await(CompletableFuture<Void> future, long timeoutMillis) {
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 超时或失败时按当前公钥集合继续
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
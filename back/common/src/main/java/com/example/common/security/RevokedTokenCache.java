@@ -0,0 +1,89 @@
+package com.example.common.security;
+
+import com.example.common.utils.BloomFilter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 资源服务本地的注销令牌过滤器：绝大多数令牌在内存布隆过滤器中即可判定未注销，
+ * 只有命中时才去 Redis 确认。注销通过 Redis 广播实时加入，并定期从 Redis 重建以剔除已过期的 jti。
+ */
+public class RevokedTokenCache {
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenCache.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+    private volatile BloomFilter filter;
+    // 重建过程中的新过滤器，期间收到的广播同时写入，替换后不丢失
+    private volatile BloomFilter building;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "revoked-token-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RevokedTokenCache(StringRedisTemplate stringRedisTemplate, long expectedInsertions, double fpp,
+                             long rebuildIntervalSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+        scheduler.scheduleWithFixedDelay(this::rebuild, 0, rebuildIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    // 从 Redis 读取未过期的 jti 重建过滤器，构建完成后整体替换
+    public void rebuild() {
+        try {
+            // 先登记新过滤器再读 Redis：注销先写 zset 再广播，登记前的广播已在读到的 zset 中
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, fpp);
+            building = rebuilt;
+            long now = System.currentTimeMillis() / 1000;
+            Set<String> jtis = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(TokenRevocation.REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+            if (jtis != null) {
+                for (String jti : jtis) {
+                    rebuilt.put(jti);
+                }
+            }
+            this.filter = rebuilt;
+        } catch (Exception e) {
+            log.warn("重建注销令牌过滤器失败", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    // 先写重建中的过滤器再写当前过滤器：读到 building 为 null 时替换已完成，filter 已是新过滤器
+    public void onRevoked(String jti) {
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(jti);
+        }
+        filter.put(jti);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return stringRedisTemplate.opsForZSet().score(TokenRevocation.REVOKED_KEY, jti) != null;
+        } catch (Exception e) {
+            // 布隆过滤器已命中且无法确认时按已注销处理
+            log.warn("确认令牌注销状态失败, jti={}", jti, e);
+            return true;
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.common.security;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 拒绝已注销（jti 在注销列表中）的 access token
+ */
+public class RevokedTokenValidator implements OAuth2TokenValidator<Jwt> {
+    private static final OAuth2Error REVOKED = new OAuth2Error("invalid_token", "令牌已注销", null);
+
+    private final RevokedTokenCache revokedTokenCache;
+
+    public RevokedTokenValidator(RevokedTokenCache revokedTokenCache) {
+        this.revokedTokenCache = revokedTokenCache;
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String jti = jwt.getId();
+        if (jti != null && revokedTokenCache.isRevoked(jti)) {
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
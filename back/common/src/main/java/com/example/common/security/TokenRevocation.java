@@ -0,0 +1,14 @@
+package com.example.common.security;
+
+/**
+ * auth-service 与各资源服务约定的令牌注销 Redis 键
+ */
+public final class TokenRevocation {
+    // 已注销的 access token：ZSET，member 为 jti，score 为过期时间（秒）
+    public static final String REVOKED_KEY = "auth:revoked";
+    // 注销广播频道，消息内容为 jti
+    public static final String REVOKED_CHANNEL = "auth:revoked";
+
+    private TokenRevocation() {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.common.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 资源服务的注销令牌过滤器及其 Redis 广播订阅，供 JwtDecoderConfig 使用。
+ * 需要的服务通过 @Import 引入。
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RevokedTokenCache revokedTokenCache(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${auth.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.revocation.fpp:0.001}") double fpp,
+            @Value("${auth.revocation.rebuild-interval-seconds:300}") long rebuildIntervalSeconds) {
+        return new RevokedTokenCache(stringRedisTemplate, expectedInsertions, fpp, rebuildIntervalSeconds);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer revokedTokenListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      RevokedTokenCache revokedTokenCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> revokedTokenCache.onRevoked(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenRevocation.REVOKED_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.common.security.key;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按时间间隔重新读取来源；原文未变化的密钥复用已解析的对象，全部未变化时返回原 List 实例。
+ */
+public abstract class CachingKeyProvider implements KeyProvider {
+    private static final Logger log = LoggerFactory.getLogger(CachingKeyProvider.class);
+
+    private final long refreshIntervalMillis;
+    private final Map<String, Parsed> parsedByKeyId = new HashMap<>();
+    // 读取来源涉及文件/Redis I/O，用 ReentrantLock 而不是 synchronized，虚拟线程等待时不占住载体线程
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile List<ManagedKey> keys;
+    private volatile long loadedAt;
+
+    protected CachingKeyProvider(long refreshIntervalSeconds) {
+        this.refreshIntervalMillis = refreshIntervalSeconds * 1000;
+    }
+
+    // 读取原始内容：keyId -> PEM 文本
+    protected abstract Map<String, String> loadPem() throws Exception;
+
+    @Override
+    public List<ManagedKey> getKeys() {
+        List<ManagedKey> current = keys;
+        if (current != null && System.currentTimeMillis() - loadedAt < refreshIntervalMillis) {
+            return current;
+        }
+        return reload();
+    }
+
+    protected List<ManagedKey> reload() {
+        lock.lock();
+        try {
+            return reloadLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<ManagedKey> reloadLocked() {
+        List<ManagedKey> current = keys;
+        if (current != null && System.currentTimeMillis() - loadedAt < refreshIntervalMillis) {
+            return current;
+        }
+        try {
+            Map<String, String> pems = loadPem();
+            List<ManagedKey> loaded = new ArrayList<>();
+            for (Map.Entry<String, String> entry : pems.entrySet()) {
+                Parsed parsed = parsedByKeyId.get(entry.getKey());
+                if (parsed == null || !parsed.pem.equals(entry.getValue())) {
+                    parsed = new Parsed(entry.getValue(), new ManagedKey(entry.getKey(), PemKeys.parse(entry.getValue())));
+                    parsedByKeyId.put(entry.getKey(), parsed);
+                }
+                loaded.add(parsed.key);
+            }
+            parsedByKeyId.keySet().retainAll(pems.keySet());
+            loaded.sort(Comparator.comparing(ManagedKey::getKeyId));
+            if (current == null || !current.equals(loaded)) {
+                keys = List.copyOf(loaded);
+            }
+        } catch (Exception e) {
+            // 来源暂时不可读时继续使用上一次的密钥
+            if (current == null) {
+                throw new IllegalStateException("加载签名密钥失败", e);
+            }
+            log.warn("重新加载签名密钥失败，继续使用已加载的密钥", e);
+        }
+        loadedAt = System.currentTimeMillis();
+        return keys;
+    }
+
+    // 下次 getKeys 时立即重新读取
+    protected void invalidate() {
+        loadedAt = 0;
+    }
+
+    protected boolean hasKey(String algorithm) {
+        invalidate();
+        for (ManagedKey key : getKeys()) {
+            if (key.getAlgorithm().equals(algorithm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Parsed {
+        private final String pem;
+        private final ManagedKey key;
+
+        Parsed(String pem, ManagedKey key) {
+            this.pem = pem;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.common.security.key;
+
+import java.util.List;
+
+/**
+ * 签名密钥来源。多个 auth-service 实例指向同一来源即可共用密钥，签发的令牌可互相验证。
+ */
+public interface KeyProvider {
+
+    // 当前所有有效密钥，按 keyId 排序；内容未变化时返回同一个 List 实例，调用方可据此复用派生对象
+    List<ManagedKey> getKeys();
+
+    // 没有该算法的密钥时生成一把并保存，供首次启动使用；只读来源直接抛出异常
+    void createIfMissing(String algorithm);
+}
@@ -0,0 +1,107 @@
+package com.example.common.security.key;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 从 PKCS12/JKS 密钥库读取所有私钥条目，alias 作为 keyId；文件修改时间不变时不重新解析。
+ * 密钥库只读，需预先用 keytool 生成。
+ */
+public class KeyStoreKeyProvider implements KeyProvider {
+    private static final Logger log = LoggerFactory.getLogger(KeyStoreKeyProvider.class);
+
+    private final Path path;
+    private final String type;
+    private final char[] password;
+    private final long refreshIntervalMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile List<ManagedKey> keys;
+    private volatile long lastModified;
+    private volatile long checkedAt;
+
+    public KeyStoreKeyProvider(Path path, String type, String password, long refreshIntervalSeconds) {
+        this.path = path;
+        this.type = type;
+        this.password = password.toCharArray();
+        this.refreshIntervalMillis = refreshIntervalSeconds * 1000;
+    }
+
+    @Override
+    public List<ManagedKey> getKeys() {
+        List<ManagedKey> current = keys;
+        if (current != null && System.currentTimeMillis() - checkedAt < refreshIntervalMillis) {
+            return current;
+        }
+        // 每次签发令牌都会调用，检查间隔内不加锁；检查文件时用 ReentrantLock，虚拟线程等待时不占住载体线程
+        lock.lock();
+        try {
+            return reload();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<ManagedKey> reload() {
+        long now = System.currentTimeMillis();
+        if (keys != null && now - checkedAt < refreshIntervalMillis) {
+            return keys;
+        }
+        checkedAt = now;
+        try {
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (keys == null || modified != lastModified) {
+                keys = load();
+                lastModified = modified;
+            }
+        } catch (Exception e) {
+            if (keys == null) {
+                throw new IllegalStateException("加载密钥库失败: " + path, e);
+            }
+            log.warn("重新加载密钥库失败，继续使用已加载的密钥: {}", path, e);
+        }
+        return keys;
+    }
+
+    @Override
+    public void createIfMissing(String algorithm) {
+        for (ManagedKey key : getKeys()) {
+            if (key.getAlgorithm().equals(algorithm)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("密钥库中没有 " + algorithm + " 密钥: " + path);
+    }
+
+    private List<ManagedKey> load() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance(type);
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore.load(in, password);
+        }
+        List<ManagedKey> loaded = new ArrayList<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (!keyStore.isKeyEntry(alias)) {
+                continue;
+            }
+            Key key = keyStore.getKey(alias, password);
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (key instanceof PrivateKey && certificate != null) {
+                loaded.add(new ManagedKey(alias, new KeyPair(certificate.getPublicKey(), (PrivateKey) key)));
+            }
+        }
+        loaded.sort(Comparator.comparing(ManagedKey::getKeyId));
+        return List.copyOf(loaded);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.common.security.key;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.RSAKey;
+
+/**
+ * 一把已解析的密钥：keyId 同时作为 JWK 的 kid
+ */
+public class ManagedKey {
+    private final String keyId;
+    private final KeyPair keyPair;
+    private final String algorithm;
+
+    public ManagedKey(String keyId, KeyPair keyPair) {
+        this.keyId = keyId;
+        this.keyPair = keyPair;
+        this.algorithm = algorithmOf(keyPair);
+    }
+
+    // RSA 密钥用于 RS256，EC P-256 密钥用于 ES256
+    public static String algorithmOf(KeyPair keyPair) {
+        if (keyPair.getPublic() instanceof RSAKey) {
+            return "RS256";
+        }
+        if (keyPair.getPublic() instanceof ECKey) {
+            return "ES256";
+        }
+        throw new IllegalArgumentException("不支持的密钥类型: " + keyPair.getPublic().getAlgorithm());
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public KeyPair getKeyPair() {
+        return keyPair;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+}
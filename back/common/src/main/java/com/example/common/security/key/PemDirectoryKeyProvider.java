@@ -0,0 +1,88 @@
+package com.example.common.security.key;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 从目录读取 {keyId}.pem，目录可以是多个实例挂载的共享卷。
+ * 轮换密钥时放入新文件即可，旧文件保留到其签发的令牌过期后再删除。
+ */
+public class PemDirectoryKeyProvider extends CachingKeyProvider {
+    private static final String SUFFIX = ".pem";
+
+    private final Path directory;
+
+    public PemDirectoryKeyProvider(Path directory, long refreshIntervalSeconds) {
+        super(refreshIntervalSeconds);
+        this.directory = directory;
+    }
+
+    @Override
+    protected Map<String, String> loadPem() throws IOException {
+        Map<String, String> pems = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return pems;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                pems.put(name.substring(0, name.length() - SUFFIX.length()),
+                        Files.readString(file, StandardCharsets.US_ASCII));
+            }
+        }
+        return pems;
+    }
+
+    // 用锁文件保证多个实例同时首次启动时只有一个生成密钥，其余等待读取
+    @Override
+    public void createIfMissing(String algorithm) {
+        if (hasKey(algorithm)) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path lock = directory.resolve("." + algorithm.toLowerCase() + ".lock");
+            try {
+                Files.createFile(lock);
+            } catch (FileAlreadyExistsException e) {
+                waitForKey(algorithm);
+                return;
+            }
+            try {
+                if (!hasKey(algorithm)) {
+                    String keyId = PemKeys.newKeyId(algorithm);
+                    Path tmp = directory.resolve("." + keyId + ".tmp");
+                    Files.writeString(tmp, PemKeys.format(PemKeys.generate(algorithm)), StandardCharsets.US_ASCII);
+                    Files.move(tmp, directory.resolve(keyId + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+                }
+            } finally {
+                Files.deleteIfExists(lock);
+            }
+            invalidate();
+        } catch (IOException e) {
+            throw new IllegalStateException("生成签名密钥失败: " + directory, e);
+        }
+    }
+
+    private void waitForKey(String algorithm) {
+        for (int i = 0; i < 50; i++) {
+            if (hasKey(algorithm)) {
+                return;
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("等待其他实例生成 " + algorithm + " 密钥超时，可删除残留的锁文件后重试: " + directory);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.common.security.key;
+
+import com.example.common.utils.RsaKeyTool;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * PEM 读写：私钥为 PKCS#8（BEGIN PRIVATE KEY），公钥为 X.509（BEGIN PUBLIC KEY），两段写在同一个文件里。
+ * RSA 私钥可省略公钥段。
+ */
+public final class PemKeys {
+    private static final String PRIVATE_KEY = "PRIVATE KEY";
+    private static final String PUBLIC_KEY = "PUBLIC KEY";
+    private static final DateTimeFormatter KEY_ID_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private PemKeys() {
+    }
+
+    public static KeyPair parse(String pem) throws Exception {
+        byte[] privateBytes = block(pem, PRIVATE_KEY);
+        if (privateBytes == null) {
+            throw new IllegalArgumentException("PEM 中没有 PKCS#8 私钥");
+        }
+        byte[] publicBytes = block(pem, PUBLIC_KEY);
+        Exception last = null;
+        for (String algorithm : new String[]{"RSA", "EC"}) {
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
+                PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateBytes));
+                PublicKey publicKey;
+                if (publicBytes != null) {
+                    publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(publicBytes));
+                } else if (privateKey instanceof RSAPrivateCrtKey) {
+                    RSAPrivateCrtKey crtKey = (RSAPrivateCrtKey) privateKey;
+                    publicKey = keyFactory.generatePublic(new RSAPublicKeySpec(crtKey.getModulus(), crtKey.getPublicExponent()));
+                } else {
+                    throw new IllegalArgumentException("EC 私钥需同时提供公钥段");
+                }
+                return new KeyPair(publicKey, privateKey);
+            } catch (Exception e) {
+                last = e;
+            }
+        }
+        throw last;
+    }
+
+    public static String format(KeyPair keyPair) {
+        return encode(PRIVATE_KEY, keyPair.getPrivate().getEncoded())
+                + encode(PUBLIC_KEY, keyPair.getPublic().getEncoded());
+    }
+
+    // 生成新密钥，algorithm 为 RS256 或 ES256
+    public static KeyPair generate(String algorithm) {
+        if ("RS256".equals(algorithm)) {
+            return RsaKeyTool.generateRSAKeyPair();
+        }
+        if ("ES256".equals(algorithm)) {
+            return RsaKeyTool.generateECKeyPair();
+        }
+        throw new IllegalArgumentException("不支持的签名算法: " + algorithm);
+    }
+
+    // 新密钥的 keyId：算法加 UTC 时间，按字典序即按创建时间排序
+    public static String newKeyId(String algorithm) {
+        return algorithm.toLowerCase() + "-" + ZonedDateTime.now(ZoneOffset.UTC).format(KEY_ID_TIME);
+    }
+
+    private static byte[] block(String pem, String type) {
+        String begin = "-----BEGIN " + type + "-----";
+        String end = "-----END " + type + "-----";
+        int start = pem.indexOf(begin);
+        if (start < 0) {
+            return null;
+        }
+        int stop = pem.indexOf(end, start);
+        if (stop < 0) {
+            throw new IllegalArgumentException("PEM 格式错误: 缺少 " + end);
+        }
+        return Base64.getMimeDecoder().decode(pem.substring(start + begin.length(), stop));
+    }
+
+    private static String encode(String type, byte[] der) {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.common.security.key;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 从 Redis Hash 读取密钥：field 为 keyId，value 为 PEM 文本
+ */
+public class RedisKeyProvider extends CachingKeyProvider {
+    public static final String DEFAULT_KEY = "auth:keys";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String hashKey;
+
+    public RedisKeyProvider(StringRedisTemplate stringRedisTemplate, String hashKey, long refreshIntervalSeconds) {
+        super(refreshIntervalSeconds);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.hashKey = hashKey;
+    }
+
+    @Override
+    protected Map<String, String> loadPem() {
+        Map<String, String> pems = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : stringRedisTemplate.opsForHash().entries(hashKey).entrySet()) {
+            pems.put((String) entry.getKey(), (String) entry.getValue());
+        }
+        return pems;
+    }
+
+    // 用 SETNX 锁保证多个实例同时首次启动时只有一个生成密钥
+    @Override
+    public void createIfMissing(String algorithm) {
+        if (hasKey(algorithm)) {
+            return;
+        }
+        String lock = hashKey + ":init:" + algorithm.toLowerCase();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lock, "1", Duration.ofSeconds(30));
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                if (!hasKey(algorithm)) {
+                    stringRedisTemplate.opsForHash().putIfAbsent(hashKey, PemKeys.newKeyId(algorithm),
+                            PemKeys.format(PemKeys.generate(algorithm)));
+                }
+            } finally {
+                stringRedisTemplate.delete(lock);
+            }
+            invalidate();
+            return;
+        }
+        for (int i = 0; i < 50; i++) {
+            if (hasKey(algorithm)) {
+                return;
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("等待其他实例生成 " + algorithm + " 密钥超时: " + hashKey);
+    }
+}
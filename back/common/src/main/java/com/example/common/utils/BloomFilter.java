@@ -0,0 +1,74 @@
+package com.example.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的字符串布隆过滤器：mightContain 返回 false 时一定不存在，返回 true 时可能存在。
+ * 位下标由 bitIndexes 计算，可用于把同样的位同步到 Redis bitmap。
+ */
+public class BloomFilter {
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long expected = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.numBits = (long) wordCount * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expected * Math.log(2)));
+    }
+
+    public void put(String value) {
+        for (long index : bitIndexes(value)) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            words.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        for (long index : bitIndexes(value)) {
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 双重哈希：第 i 个下标为 h1 + i * h2
+    public long[] bitIndexes(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = hash(bytes, 0x9E3779B97F4A7C15L);
+        long h2 = hash(bytes, 0xC2B2AE3D27D4EB4FL);
+        long[] indexes = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            indexes[i] = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+        }
+        return indexes;
+    }
+
+    public long getNumBits() {
+        return numBits;
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    private static long hash(byte[] bytes, long seed) {
+        long h = seed ^ (bytes.length * 0xFF51AFD7ED558CCDL);
+        for (byte b : bytes) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
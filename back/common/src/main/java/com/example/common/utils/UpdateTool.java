@@ -1,8 +1,13 @@
 package com.example.common.utils;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.lang.reflect.Field;
 
 public class UpdateTool {
+    private static final Logger log = LoggerFactory.getLogger(UpdateTool.class);
+
     public static void copyNullProperties(Object source, Object target) {
         if (source == null || target == null) return;
         Class<?> clazz = source.getClass();
@@ -15,7 +20,7 @@ public class UpdateTool {
                     field.set(target, field.get(source));
                 }
             } catch (IllegalAccessException e) {
-                e.printStackTrace();
+                log.warn("复制属性失败: {}", field.getName(), e);
             }
         }
     }
@@ -2,6 +2,7 @@ package com.example.gateway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -9,6 +10,9 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 @SpringBootApplication
 public class GatewayServiceApplication {
     public static void main(String[] args) {
-        SpringApplication.run(GatewayServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(GatewayServiceApplication.class);
+        // 记录启动各步骤耗时，完整时间线见 /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 } 
\ No newline at end of file
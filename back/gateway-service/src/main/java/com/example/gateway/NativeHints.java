@@ -0,0 +1,45 @@
+package com.example.gateway;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * gateway 的 native image 提示（经 META-INF/spring/aot.factories 注册，与 common 中的 AlibabaSpiRuntimeHints 一致，gateway 不依赖 common）：
+ * Nacos 客户端与 Sentinel 按 META-INF/services/com.alibaba.* 加载实现类。
+ * 路由、断言与过滤器的配置类由 Spring Cloud Gateway 自带的提示覆盖。
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver(classLoader)
+                    .getResources("classpath*:META-INF/services/com.alibaba.*")) {
+                hints.resources().registerPattern("META-INF/services/" + resource.getFilename());
+                for (String line : resource.getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+                    String className = line.replaceAll("#.*", "").trim();
+                    if (className.isEmpty() || !ClassUtils.isPresent(className, classLoader)) {
+                        continue;
+                    }
+                    for (Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+                         type != null && type != Object.class; type = type.getSuperclass()) {
+                        hints.reflection().registerType(type,
+                                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                                MemberCategory.INVOKE_DECLARED_METHODS,
+                                MemberCategory.DECLARED_FIELDS);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取 META-INF/services 失败", e);
+        }
+    }
+}
@@ -22,9 +22,10 @@ public class SecurityConfig {
                     "/business/**",
                     "/commodity/**",
                     "/foodtype/**",
-                    "/order/**",
-                    "/actuator/**"
+                    "/order/**"
                 ).permitAll()
+                // actuator 只在管理端口 9100 上提供（management.server.port），该端口不对公网开放
+                .pathMatchers("/actuator/**").permitAll()
                 .pathMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .anyExchange().permitAll()
             );
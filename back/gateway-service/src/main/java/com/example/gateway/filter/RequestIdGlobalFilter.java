@@ -0,0 +1,38 @@
+package com.example.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * 入口处生成请求 ID，经 X-Request-Id 传给下游服务并写回响应头，各服务日志按该 ID 串联
+ */
+@Component
+public class RequestIdGlobalFilter implements GlobalFilter, Ordered {
+    private static final String HEADER = "X-Request-Id";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String requestId = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (requestId == null || requestId.isEmpty() || requestId.length() > 64) {
+            requestId = UUID.randomUUID().toString().replace("-", "");
+        }
+        String id = requestId;
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.set(HEADER, id))
+                .build();
+        exchange.getResponse().getHeaders().set(HEADER, id);
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
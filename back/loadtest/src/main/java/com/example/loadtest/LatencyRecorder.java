@@ -0,0 +1,77 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一档压力下各步骤的延迟直方图（微秒，1 微秒～60 秒，3 位有效数字）与会话计数
+ */
+public class LatencyRecorder {
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Step, Histogram> histograms = new EnumMap<>(Step.class);
+    private final Map<Step, LongAdder> errors = new EnumMap<>(Step.class);
+    private final LongAdder sessionsStarted = new LongAdder();
+    private final LongAdder sessionsCompleted = new LongAdder();
+    private final LongAdder sessionsFailed = new LongAdder();
+    private final LongAdder sessionsDropped = new LongAdder();
+
+    public LatencyRecorder() {
+        for (Step step : Step.values()) {
+            histograms.put(step, new ConcurrentHistogram(MAX_MICROS, 3));
+            errors.put(step, new LongAdder());
+        }
+    }
+
+    public void record(Step step, long nanos, boolean success) {
+        histograms.get(step).recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), MAX_MICROS));
+        if (!success) {
+            errors.get(step).increment();
+        }
+    }
+
+    public void sessionStarted() {
+        sessionsStarted.increment();
+    }
+
+    public void sessionCompleted() {
+        sessionsCompleted.increment();
+    }
+
+    public void sessionFailed() {
+        sessionsFailed.increment();
+    }
+
+    // 在途会话达到上限时不再发起，单独计数；出现丢弃说明该档位已超出系统容量
+    public void sessionDropped() {
+        sessionsDropped.increment();
+    }
+
+    public StageReport summarize(double targetRate, long measuredNanos) {
+        double seconds = measuredNanos / 1_000_000_000.0;
+        List<StageReport.StepStats> steps = new ArrayList<>();
+        for (Step step : Step.values()) {
+            Histogram histogram = histograms.get(step);
+            long count = histogram.getTotalCount();
+            steps.add(new StageReport.StepStats(step.getLabel(), count, errors.get(step).sum(), count / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        }
+        return new StageReport(targetRate, sessionsStarted.sum() / seconds, sessionsStarted.sum(),
+                sessionsCompleted.sum(), sessionsFailed.sum(), sessionsDropped.sum(), steps);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 离线端到端压测入口：启动本地服务与基础数据，按 loadtest.rate 逐档施压，输出各步骤吞吐量与延迟分位数，
+ * 结果同时写入 loadtest.output-dir 下的 JSON，作为容量规划的基线。
+ */
+public class LoadTestMain {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        LocalCluster cluster = new LocalCluster(options);
+        int exitCode = 0;
+        try {
+            if (options.isStartCluster()) {
+                cluster.start();
+                SeedData.seed(cluster, options);
+                log.info("基础数据已写入: 用户 {}, 商家 {}, 每个商家商品 {}",
+                        options.getUsers(), options.getBusinesses(), options.getCommoditiesPerBusiness());
+            }
+            run(options);
+        } catch (Exception e) {
+            log.error("压测失败", e);
+            exitCode = 1;
+        } finally {
+            cluster.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void run(LoadTestOptions options) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            URI target = options.getTarget();
+            PublicKey loginKey = fetchLoginKey(client, target, objectMapper);
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, target, loginKey, objectMapper, options);
+            List<StageReport> stages = new ArrayList<>();
+            for (double rate : options.getRates()) {
+                StageReport report = generator.runStage(rate);
+                print(report);
+                stages.add(report);
+            }
+            write(options, stages, objectMapper);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 登录时加密用户名密码用的 RSA 公钥，与前端取法相同
+    private static PublicKey fetchLoginKey(HttpClient client, URI target, ObjectMapper objectMapper) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(target.resolve("/auth/rsa-public-key")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        String publicKey = objectMapper.readTree(response.body()).path("data").path("publicKey").asText(null);
+        if (publicKey == null) {
+            throw new IllegalStateException("获取登录公钥失败: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey)));
+    }
+
+    private static void print(StageReport report) {
+        log.info("目标 {} 会话/秒, 实际到达 {} 会话/秒; 会话 发起 {} 完成 {} 失败 {} 丢弃 {}",
+                report.getTargetRate(), String.format("%.1f", report.getAchievedRate()), report.getSessionsStarted(),
+                report.getSessionsCompleted(), report.getSessionsFailed(), report.getSessionsDropped());
+        log.info(String.format("%-28s %8s %7s %9s %9s %9s %9s %9s %9s",
+                "step", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (StageReport.StepStats step : report.getSteps()) {
+            log.info(String.format("%-28s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f",
+                    step.getStep(), step.getCount(), step.getErrors(), step.getThroughput(),
+                    step.getP50(), step.getP90(), step.getP99(), step.getP999(), step.getMax()));
+        }
+    }
+
+    private static void write(LoadTestOptions options, List<StageReport> stages, ObjectMapper objectMapper) throws Exception {
+        Files.createDirectories(options.getOutputDir());
+        Path file = options.getOutputDir().resolve("loadtest-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("target", options.getTarget().toString());
+        result.put("warmupSeconds", options.getWarmup().toSeconds());
+        result.put("durationSeconds", options.getDuration().toSeconds());
+        result.put("thinkTimeMillis", options.getThinkTime().toMillis());
+        result.put("users", options.getUsers());
+        result.put("stages", stages);
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+        log.info("结果已写入 {}", file);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 压测参数，全部来自 -Dloadtest.* 系统属性
+ */
+public class LoadTestOptions {
+    private final List<Double> rates;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final Duration thinkTime;
+    private final int users;
+    private final int businesses;
+    private final int commoditiesPerBusiness;
+    private final boolean startCluster;
+    private final URI target;
+    private final int redisPort;
+    private final Path gatewayJar;
+    private final Path outputDir;
+
+    private LoadTestOptions() {
+        this.rates = parseRates(System.getProperty("loadtest.rate", "20"));
+        this.warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 30));
+        this.duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 120));
+        this.maxInFlight = Integer.getInteger("loadtest.max-in-flight", 2000);
+        this.thinkTime = Duration.ofMillis(Long.getLong("loadtest.think-time-ms", 0));
+        this.users = Integer.getInteger("loadtest.users", 1000);
+        this.businesses = Integer.getInteger("loadtest.businesses", 20);
+        this.commoditiesPerBusiness = Integer.getInteger("loadtest.commodities-per-business", 10);
+        // false 时不启动本地服务，直接压测 loadtest.target 指向的已部署环境（数据需事先按 SeedData 的规则准备）
+        this.startCluster = Boolean.parseBoolean(System.getProperty("loadtest.start-cluster", "true"));
+        this.target = URI.create(System.getProperty("loadtest.target", "http://localhost:9000"));
+        this.redisPort = Integer.getInteger("loadtest.redis-port", 16379);
+        this.gatewayJar = Paths.get(System.getProperty("loadtest.gateway-jar",
+                "../gateway-service/target/gateway-service-1.0-SNAPSHOT.jar")).toAbsolutePath().normalize();
+        this.outputDir = Paths.get(System.getProperty("loadtest.output-dir", "target/loadtest")).toAbsolutePath().normalize();
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions();
+    }
+
+    private static List<Double> parseRates(String value) {
+        List<Double> result = new ArrayList<>();
+        for (String rate : value.split(",")) {
+            if (!rate.isBlank()) {
+                double parsed = Double.parseDouble(rate.trim());
+                if (parsed <= 0) {
+                    throw new IllegalArgumentException("loadtest.rate 必须大于 0: " + value);
+                }
+                result.add(parsed);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.rate 不能为空");
+        }
+        return result;
+    }
+
+    public List<Double> getRates() {
+        return rates;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getBusinesses() {
+        return businesses;
+    }
+
+    public int getCommoditiesPerBusiness() {
+        return commoditiesPerBusiness;
+    }
+
+    public boolean isStartCluster() {
+        return startCluster;
+    }
+
+    public URI getTarget() {
+        return target;
+    }
+
+    public int getRedisPort() {
+        return redisPort;
+    }
+
+    public Path getGatewayJar() {
+        return gatewayJar;
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+}
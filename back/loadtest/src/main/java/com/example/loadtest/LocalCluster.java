@@ -0,0 +1,171 @@
+package com.example.loadtest;
+
+import com.example.auth.AuthServiceApplication;
+import com.example.business.BusinessServiceApplication;
+import com.example.order.OrderServiceApplication;
+import com.example.user.UserServiceApplication;
+import com.github.fppt.jedismock.RedisServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在本机拉起整套服务：内嵌 Redis，auth/user/business/order 在当前 JVM 中各自启动一个 Spring 容器，
+ * gateway 是 WebFlux 应用，不能与 Spring MVC 共用类路径，用它的可执行 jar 单独起一个进程。
+ * 端口沿用各服务默认值（gateway 的路由与 jwk-set-uri 写死了这些端口）。
+ */
+public class LocalCluster implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(LocalCluster.class);
+
+    private final LoadTestOptions options;
+    private final List<ConfigurableApplicationContext> services = new ArrayList<>();
+    private RedisServer redis;
+    private Process gateway;
+
+    public LocalCluster(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public void start() throws Exception {
+        Files.createDirectories(options.getOutputDir());
+        redis = RedisServer.newRedisServer(options.getRedisPort());
+        redis.start();
+        log.info("内嵌 Redis 已启动, port={}", options.getRedisPort());
+
+        // auth 先启动：其余服务作为资源服务器要从 /auth/jwk 拉取公钥
+        Path keyDir = Files.createTempDirectory("loadtest-keys");
+        boot("auth", AuthServiceApplication.class, "--auth.keys.source=file", "--auth.keys.dir=" + keyDir);
+        boot("user", UserServiceApplication.class);
+        boot("business", BusinessServiceApplication.class);
+        boot("order", OrderServiceApplication.class);
+        startGateway();
+    }
+
+    // 各服务主库（H2 内存库），供 SeedData 写入基础数据
+    public DataSource masterDataSource(String service) {
+        for (ConfigurableApplicationContext context : services) {
+            if (service.equals(context.getEnvironment().getProperty("spring.application.name"))) {
+                return context.getBean("masterDataSource", DataSource.class);
+            }
+        }
+        throw new IllegalArgumentException("服务未启动: " + service);
+    }
+
+    private void boot(String name, Class<?> application, String... extraArgs) throws IOException {
+        List<String> args = new ArrayList<>();
+        // 不加载类路径上的 application.properties（四个服务 jar 各有一份，同名冲突），改读 loadtest-{name}.properties
+        args.add("--spring.config.name=loadtest-" + name);
+        args.add("--spring.data.redis.port=" + options.getRedisPort());
+        args.addAll(List.of(extraArgs));
+        long start = System.nanoTime();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                // 服务自身的配置作为默认值，压测配置只覆盖数据源、注册中心等外部依赖
+                .properties(ownProperties(application))
+                .run(args.toArray(new String[0]));
+        services.add(context);
+        log.info("{}-service 已启动, 耗时 {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // 从服务类所在的 jar（或 classes 目录）读取它自己的 application.properties
+    private static Properties ownProperties(Class<?> application) throws IOException {
+        String location = application.getProtectionDomain().getCodeSource().getLocation().toString();
+        URL url = location.endsWith(".jar")
+                ? new URL("jar:" + location + "!/application.properties")
+                : new URL(location + "application.properties");
+        Properties properties = new Properties();
+        try (InputStream in = url.openStream()) {
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return properties;
+    }
+
+    private void startGateway() throws Exception {
+        Path jar = options.getGatewayJar();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("找不到 gateway 可执行 jar: " + jar + "，请先在 back 下执行 mvn -f gateway-service/pom.xml package");
+        }
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Path logFile = options.getOutputDir().resolve("gateway.log");
+        gateway = new ProcessBuilder(java, "-jar", jar.toString(),
+                "--server.port=" + options.getTarget().getPort(),
+                // 压测环境不区分内外网，actuator 与业务共用端口，便于下面的健康检查
+                "--management.server.port=" + options.getTarget().getPort(),
+                "--spring.cloud.nacos.discovery.enabled=false",
+                "--spring.cloud.sentinel.enabled=false",
+                "--spring.data.redis.port=" + options.getRedisPort(),
+                "--management.health.redis.enabled=false",
+                "--management.tracing.enabled=false")
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        waitUntilUp(options.getTarget().resolve("/actuator/health"), Duration.ofSeconds(90));
+        log.info("gateway-service 已启动, 日志: {}", logFile);
+    }
+
+    private void waitUntilUp(URI uri, Duration timeout) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!gateway.isAlive()) {
+                throw new IllegalStateException("gateway 进程已退出, exit=" + gateway.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // 尚未监听端口
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("等待 gateway 启动超时: " + uri);
+    }
+
+    @Override
+    public void close() {
+        if (gateway != null) {
+            gateway.destroy();
+            try {
+                if (!gateway.waitFor(10, TimeUnit.SECONDS)) {
+                    gateway.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                gateway.destroyForcibly();
+            }
+        }
+        for (int i = services.size() - 1; i >= 0; i--) {
+            services.get(i).close();
+        }
+        if (redis != null) {
+            try {
+                redis.stop();
+            } catch (IOException e) {
+                log.warn("关闭内嵌 Redis 失败", e);
+            }
+        }
+    }
+}
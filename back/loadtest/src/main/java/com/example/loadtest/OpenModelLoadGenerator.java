@@ -0,0 +1,101 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 开环负载：会话按泊松过程以固定速率到达，不因系统变慢而减少发起数量（闭环压测会随延迟自动降速，掩盖排队）。
+ * 在途会话超过 loadtest.max-in-flight 时丢弃新会话并计数，避免压测端自身耗尽内存。
+ */
+public class OpenModelLoadGenerator {
+    private static final Logger log = LoggerFactory.getLogger(OpenModelLoadGenerator.class);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI target;
+    private final PublicKey loginKey;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelLoadGenerator(HttpClient client, URI target, PublicKey loginKey,
+                                  ObjectMapper objectMapper, LoadTestOptions options) {
+        this.client = client;
+        this.target = target;
+        this.loginKey = loginKey;
+        this.objectMapper = objectMapper;
+        this.options = options;
+    }
+
+    // 先预热 loadtest.warmup-seconds（不记录），再测量 loadtest.duration-seconds
+    public StageReport runStage(double rate) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long measureFrom = start + options.getWarmup().toNanos();
+        long end = measureFrom + options.getDuration().toNanos();
+        log.info("开始压测: {} 会话/秒, 预热 {} 秒, 测量 {} 秒",
+                rate, options.getWarmup().toSeconds(), options.getDuration().toSeconds());
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            boolean measured = next >= measureFrom;
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                if (measured) {
+                    recorder.sessionDropped();
+                }
+            } else {
+                launch(next, measured ? recorder : null);
+            }
+            // 指数分布的到达间隔
+            next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) / rate * 1_000_000_000L);
+        }
+        drain();
+        return recorder.summarize(rate, end - measureFrom);
+    }
+
+    private void launch(long arrivalNanos, LatencyRecorder recorder) {
+        inFlight.incrementAndGet();
+        if (recorder != null) {
+            recorder.sessionStarted();
+        }
+        new ShopperSession(client, target, loginKey, objectMapper, options, recorder)
+                .run(arrivalNanos)
+                .whenComplete((result, error) -> {
+                    inFlight.decrementAndGet();
+                    if (recorder == null) {
+                        return;
+                    }
+                    if (error == null) {
+                        recorder.sessionCompleted();
+                    } else {
+                        recorder.sessionFailed();
+                        log.debug("会话失败", error);
+                    }
+                });
+    }
+
+    // 等待测量窗口内发起的会话结束，它们的延迟也要计入
+    private void drain() throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("仍有 {} 个会话未结束，未计入结果", inFlight.get());
+        }
+    }
+}
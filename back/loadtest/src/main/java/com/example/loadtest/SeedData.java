@@ -0,0 +1,74 @@
+package com.example.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 压测基础数据：用户 lt_user_{i} / lt_pass_{i}，商家 1..N，商家 b 的商品 id 为 (b-1)*M+1 .. b*M。
+ * 表由各服务启动时的 Flyway 迁移建好，这里只写数据；会话按同样的规则随机挑选用户、商家和商品。
+ */
+public final class SeedData {
+    private static final int FOOD_TYPE_IMAGES = 10;
+    private static final int BUSINESS_IMAGES = 9;
+    private static final int COMMODITY_IMAGES = 12;
+    private static final int BATCH_SIZE = 1000;
+
+    private SeedData() {
+    }
+
+    public static String username(int index) {
+        return "lt_user_" + index;
+    }
+
+    public static String password(int index) {
+        return "lt_pass_" + index;
+    }
+
+    public static long commodityId(int businessId, int offset, int commoditiesPerBusiness) {
+        return (long) (businessId - 1) * commoditiesPerBusiness + offset + 1;
+    }
+
+    public static void seed(LocalCluster cluster, LoadTestOptions options) {
+        seedUsers(new JdbcTemplate(cluster.masterDataSource("user-service")), options.getUsers());
+        seedBusinesses(new JdbcTemplate(cluster.masterDataSource("business-service")),
+                options.getBusinesses(), options.getCommoditiesPerBusiness());
+    }
+
+    private static void seedUsers(JdbcTemplate jdbc, int users) {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            batch.add(new Object[]{username(i), password(i), "压测地址" + i, String.format("138%08d", i)});
+            if (batch.size() == BATCH_SIZE || i == users) {
+                jdbc.batchUpdate("insert into `user` (username, password, address, phoneNumber) values (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static void seedBusinesses(JdbcTemplate jdbc, int businesses, int commoditiesPerBusiness) {
+        List<Object[]> foodTypes = new ArrayList<>();
+        for (int i = 1; i <= FOOD_TYPE_IMAGES; i++) {
+            foodTypes.add(new Object[]{i, "分类" + i, String.format("foodType%02d.png", i)});
+        }
+        jdbc.batchUpdate("insert into food_type (id, name, img) values (?, ?, ?)", foodTypes);
+
+        List<Object[]> businessRows = new ArrayList<>();
+        List<Object[]> commodityRows = new ArrayList<>();
+        for (int b = 1; b <= businesses; b++) {
+            businessRows.add(new Object[]{b, "压测商家" + b, "商家描述" + b, 3.0, 20.0, 100 + b, 4.5,
+                    String.format("business%02d.png", (b - 1) % BUSINESS_IMAGES + 1), (b - 1) % FOOD_TYPE_IMAGES + 1});
+            for (int c = 0; c < commoditiesPerBusiness; c++) {
+                long id = commodityId(b, c, commoditiesPerBusiness);
+                commodityRows.add(new Object[]{id, "商品" + id, "商品描述" + id, 10.0 + c, b,
+                        String.format("commodity%02d.png", (int) ((id - 1) % COMMODITY_IMAGES) + 1)});
+            }
+        }
+        jdbc.batchUpdate("insert into business (id, name, businessDescription, deliveryFees, miniDeliveryFee, monthSold, score, image, foodTypeId)"
+                + " values (?, ?, ?, ?, ?, ?, ?, ?, ?)", businessRows);
+        jdbc.batchUpdate("insert into commodity (id, commodityName, commodityDescription, price, businessId, image)"
+                + " values (?, ?, ?, ?, ?, ?)", commodityRows);
+    }
+}
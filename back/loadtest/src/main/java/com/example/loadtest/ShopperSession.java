@@ -0,0 +1,169 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.crypto.Cipher;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 一个用户的购物流程：登录 → 商家列表、分类、某商家商品 → 下单 → 查看未支付订单，全部经 gateway。
+ * 步骤之间是闭环（等上一步返回），会话之间是开环（由 OpenModelLoadGenerator 按到达率发起）。
+ * 登录一步的延迟从计划到达时间算起，压测端落后时排队时间也计入，不会低估延迟。
+ */
+public class ShopperSession {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_ITEMS = 3;
+
+    private final HttpClient client;
+    private final URI target;
+    private final PublicKey loginKey;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    // 预热阶段为 null，不记录
+    private final LatencyRecorder recorder;
+    private String accessToken;
+
+    public ShopperSession(HttpClient client, URI target, PublicKey loginKey, ObjectMapper objectMapper,
+                          LoadTestOptions options, LatencyRecorder recorder) {
+        this.client = client;
+        this.target = target;
+        this.loginKey = loginKey;
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.recorder = recorder;
+    }
+
+    public CompletableFuture<Void> run(long arrivalNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(options.getUsers()) + 1;
+        int business = random.nextInt(options.getBusinesses()) + 1;
+        return CompletableFuture.completedFuture(null)
+                .thenCompose(ignored -> call(Step.LOGIN, login(user), arrivalNanos))
+                .thenCompose(body -> {
+                    accessToken = data(body).asText();
+                    return next(Step.BUSINESS_LIST, () -> get("/business/list"));
+                })
+                .thenCompose(body -> next(Step.FOOD_TYPES, () -> get("/foodtype/foodTypeList")))
+                .thenCompose(body -> next(Step.COMMODITIES, () -> get("/commodity/list/" + business)))
+                .thenCompose(body -> next(Step.CREATE_ORDER, () -> post("/order/create", order(business))))
+                .thenCompose(body -> next(Step.ORDER_HISTORY, () -> get("/user/unpayorder")))
+                .thenApply(body -> null);
+    }
+
+    private CompletableFuture<String> next(Step step, Supplier<HttpRequest> request) {
+        long thinkMillis = options.getThinkTime().toMillis();
+        if (thinkMillis <= 0) {
+            return call(step, request.get(), System.nanoTime());
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(thinkMillis, TimeUnit.MILLISECONDS))
+                .thenCompose(ignored -> call(step, request.get(), System.nanoTime()));
+    }
+
+    // 状态码 200 且 Result.success 为 true 才算成功；失败时终止本次会话的后续步骤
+    private CompletableFuture<String> call(Step step, HttpRequest request, long startNanos) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).handle((response, error) -> {
+            long elapsed = System.nanoTime() - startNanos;
+            boolean success = error == null && response.statusCode() == 200
+                    && response.body().contains("\"success\":true");
+            if (recorder != null) {
+                recorder.record(step, elapsed, success);
+            }
+            if (!success) {
+                String reason = error != null ? error.toString() : "HTTP " + response.statusCode();
+                throw new CompletionException(new IllegalStateException(step.getLabel() + " 失败: " + reason));
+            }
+            return response.body();
+        });
+    }
+
+    private HttpRequest login(int user) {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("username", encrypt(SeedData.username(user)));
+        body.put("password", encrypt(SeedData.password(user)));
+        return HttpRequest.newBuilder(target.resolve("/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    private Map<String, Object> order(int business) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int perBusiness = options.getCommoditiesPerBusiness();
+        int itemCount = random.nextInt(Math.min(MAX_ITEMS, perBusiness)) + 1;
+        int first = random.nextInt(perBusiness);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("commodityId", SeedData.commodityId(business, (first + i) % perBusiness, perBusiness));
+            item.put("quanity", random.nextInt(3) + 1);
+            items.add(item);
+        }
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("businessId", business);
+        order.put("orderItems", items);
+        return order;
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return authorized(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(target.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + accessToken);
+    }
+
+    // 与前端一致：用 /auth/rsa-public-key 返回的公钥加密后 Base64
+    private String encrypt(String plain) {
+        try {
+            Cipher cipher = Cipher.getInstance("RSA");
+            cipher.init(Cipher.ENCRYPT_MODE, loginKey);
+            return Base64.getEncoder().encodeToString(cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("加密登录信息失败", e);
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode data(String body) {
+        try {
+            return objectMapper.readTree(body).path("data");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("无法解析响应: " + body, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.loadtest;
+
+import java.util.List;
+
+/**
+ * 一档压力的结果：会话到达与完成情况，以及每个步骤的吞吐量和延迟分位数（毫秒）
+ */
+public class StageReport {
+    private final double targetRate;
+    private final double achievedRate;
+    private final long sessionsStarted;
+    private final long sessionsCompleted;
+    private final long sessionsFailed;
+    private final long sessionsDropped;
+    private final List<StepStats> steps;
+
+    public StageReport(double targetRate, double achievedRate, long sessionsStarted, long sessionsCompleted,
+                       long sessionsFailed, long sessionsDropped, List<StepStats> steps) {
+        this.targetRate = targetRate;
+        this.achievedRate = achievedRate;
+        this.sessionsStarted = sessionsStarted;
+        this.sessionsCompleted = sessionsCompleted;
+        this.sessionsFailed = sessionsFailed;
+        this.sessionsDropped = sessionsDropped;
+        this.steps = steps;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public double getAchievedRate() {
+        return achievedRate;
+    }
+
+    public long getSessionsStarted() {
+        return sessionsStarted;
+    }
+
+    public long getSessionsCompleted() {
+        return sessionsCompleted;
+    }
+
+    public long getSessionsFailed() {
+        return sessionsFailed;
+    }
+
+    public long getSessionsDropped() {
+        return sessionsDropped;
+    }
+
+    public List<StepStats> getSteps() {
+        return steps;
+    }
+
+    public static class StepStats {
+        private final String step;
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        public StepStats(String step, long count, long errors, double throughput,
+                         double p50, double p90, double p99, double p999, double max) {
+            this.step = step;
+            this.count = count;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.max = max;
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getP999() {
+            return p999;
+        }
+
+        public double getMax() {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.loadtest;
+
+/**
+ * 一次购物会话的请求步骤，按顺序执行
+ */
+public enum Step {
+    LOGIN("POST /auth/login"),
+    BUSINESS_LIST("GET /business/list"),
+    FOOD_TYPES("GET /foodtype/foodTypeList"),
+    COMMODITIES("GET /commodity/list/{id}"),
+    CREATE_ORDER("POST /order/create"),
+    ORDER_HISTORY("GET /user/unpayorder");
+
+    private final String label;
+
+    Step(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# 对比 JVM 与 native image：启动到第一个请求成功的耗时、第一个请求后与预热后的常驻内存（RSS）
+# 先分别构建两种产物（在 back 目录下，business-service 需先 mvn -f common/pom.xml install）：
+#   mvn -f business-service/pom.xml package         与  mvn -f business-service/pom.xml -Pnative package
+#   mvn -f gateway-service/pom.xml package          与  mvn -f gateway-service/pom.xml -Pnative package
+# 用法：./native-compare.sh business|gateway [预热请求数，默认 500]
+# 依赖的 MySQL、Redis、Nacos 需已启动；启动参数默认 --spring.profiles.active=prod，可用环境变量 APP_ARGS 覆盖
+set -euo pipefail
+
+cd "$(dirname "$0")"
+service=${1:-business}
+warmup=${2:-500}
+app_args=${APP_ARGS:---spring.profiles.active=prod}
+
+case "$service" in
+    business)
+        jar=business-service/target/business-service-1.0-SNAPSHOT-exec.jar
+        native=business-service/target/business-service
+        url=http://localhost:9001/business/list
+        ;;
+    gateway)
+        jar=gateway-service/target/gateway-service-1.0-SNAPSHOT.jar
+        native=gateway-service/target/gateway-service
+        # actuator 在管理端口 9100（management.server.port）
+        url=http://localhost:9100/actuator/info
+        ;;
+    *)
+        echo "用法: $0 business|gateway [预热请求数]" >&2
+        exit 1
+        ;;
+esac
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+# 参数：名称 启动命令...
+measure() {
+    local name=$1
+    shift
+    local start pid first
+    start=$(now_ms)
+    "$@" $app_args > "/tmp/native-compare-$service-$name.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$name 启动失败，日志见 /tmp/native-compare-$service-$name.log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    first=$(( $(now_ms) - start ))
+    local rss_first
+    rss_first=$(rss_mb "$pid")
+    for _ in $(seq "$warmup"); do
+        curl -sf -o /dev/null "$url"
+    done
+    printf '%-8s 首个请求成功 %6d ms   RSS(首个请求后) %5d MB   RSS(%d 次请求后) %5d MB\n' \
+        "$name" "$first" "$rss_first" "$warmup" "$(rss_mb "$pid")"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+echo "$service: $url"
+measure jvm java -jar "$jar"
+measure native "./$native"
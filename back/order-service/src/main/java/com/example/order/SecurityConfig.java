@@ -17,6 +17,7 @@ public class SecurityConfig {
                 .requestMatchers("/order/list").permitAll()
                 .requestMatchers("/order/payedorder").permitAll()
                 .requestMatchers("/order/unpayorder").permitAll()
+                .requestMatchers("/order/payedorder/stream", "/order/unpayorder/stream").authenticated() // 只返回令牌对应用户的订单
                 .requestMatchers("/order/items").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
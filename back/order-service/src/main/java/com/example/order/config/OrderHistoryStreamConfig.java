@@ -0,0 +1,32 @@
+package com.example.order.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 流式订单历史用到的非阻塞资源：按服务名负载均衡的 WebClient，以及执行 JPA 查询的有界线程池。
+ * JDBC 线程数与连接池大小一致，排队的查询不占用请求线程。
+ */
+@Configuration
+public class OrderHistoryStreamConfig {
+
+    // 使用 Spring Boot 提供的 Builder，保留指标与链路追踪的埋点
+    @Bean
+    public WebClient businessWebClient(WebClient.Builder builder, ReactorLoadBalancerExchangeFilterFunction loadBalancer) {
+        return builder
+                .baseUrl("http://business-service")
+                .filter(loadBalancer)
+                .build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler orderHistoryJdbcScheduler(@Value("${order.history.jdbc-threads:10}") int threads,
+                                               @Value("${order.history.jdbc-queue-size:10000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "order-history-jdbc");
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.order.controller;
 
+import com.alibaba.csp.sentinel.EntryType;
+import com.alibaba.csp.sentinel.annotation.SentinelResource;
+import com.alibaba.csp.sentinel.slots.block.BlockException;
 import com.example.order.dto.OrderCreateDTO;
+import com.example.order.dto.OrderTableDTO;
+import com.example.order.service.OrderHistoryStreamService;
 import com.example.order.service.OrderService;
 import com.example.common.Result;
 import com.example.order.dao.OrderItemDAO;
 import com.example.order.entity.OrderItem;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,10 +30,14 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderHistoryStreamService orderHistoryStreamService;
+
     @Autowired
     private OrderItemDAO orderItemDAO;
 
     @PostMapping("/create")
+    @SentinelResource(value = "createOrder", entryType = EntryType.IN, blockHandler = "createOrderBlocked")
     public Result createOrder(@RequestBody OrderCreateDTO orderCreateDTO, @AuthenticationPrincipal Jwt jwt) {
         if (jwt == null) {
             return Result.error("未授权访问");
@@ -32,6 +45,11 @@ public class OrderController {
         return orderService.createOrder(orderCreateDTO, jwt.getSubject());
     }
 
+    // 系统过载时直接拒绝，不再进入下单流程
+    public Result createOrderBlocked(OrderCreateDTO orderCreateDTO, Jwt jwt, BlockException e) {
+        return Result.error("系统繁忙，请稍后重试");
+    }
+
     @GetMapping("/list")
     public Result listOrders(@AuthenticationPrincipal Jwt jwt) {
         if (jwt == null) {
@@ -41,13 +59,38 @@ public class OrderController {
     }
 
     @GetMapping("/payedorder")
-    public Result getPayedOrderByUserId(@RequestParam Long userId) {
-        return Result.success(orderService.getPayedOrderByUserId(userId));
+    public Result getPayedOrderByUserId(@RequestParam Long userId,
+                                        @RequestParam(required = false) String fields) {
+        return Result.success(orderService.getPayedOrderByUserId(userId, fields));
     }
 
     @GetMapping("/unpayorder")
-    public Result getUnpayOrderByUserId(@RequestParam Long userId) {
-        return Result.success(orderService.getUnpayOrderByUserId(userId));
+    public Result getUnpayOrderByUserId(@RequestParam Long userId,
+                                        @RequestParam(required = false) String fields) {
+        return Result.success(orderService.getUnpayOrderByUserId(userId, fields));
+    }
+
+    // 流式返回当前登录用户的订单：每组装好一个订单就输出一行（Accept: application/x-ndjson）或一个事件（Accept: text/event-stream），
+    // 客户端收到第一个订单即可开始渲染
+    // 用户在开始输出之前解析，user-service 不可用时返回 503 而不是中途断开的 200 流
+    @GetMapping(value = "/payedorder/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<Flux<OrderTableDTO>> streamPayedOrder(@AuthenticationPrincipal Jwt jwt,
+                                                                @RequestParam(required = false) String fields) {
+        Long userId = orderHistoryStreamService.resolveUserId(jwt.getSubject());
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(orderHistoryStreamService.stream(userId, true, fields));
+    }
+
+    @GetMapping(value = "/unpayorder/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<Flux<OrderTableDTO>> streamUnpayOrder(@AuthenticationPrincipal Jwt jwt,
+                                                                @RequestParam(required = false) String fields) {
+        Long userId = orderHistoryStreamService.resolveUserId(jwt.getSubject());
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(orderHistoryStreamService.stream(userId, false, fields));
     }
 
     @GetMapping("/items")
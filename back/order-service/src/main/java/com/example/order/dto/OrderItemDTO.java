@@ -1,5 +1,9 @@
 package com.example.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 未请求的字段不输出
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrderItemDTO {
     private Long id;
     private Integer quanity;
@@ -1,7 +1,10 @@
 package com.example.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
+// 未请求的字段不输出
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrderTableDTO {
     private Long orderId;
     private Double payAmount;
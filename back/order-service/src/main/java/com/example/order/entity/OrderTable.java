@@ -1,6 +1,8 @@
 package com.example.order.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "order_table")
@@ -9,6 +11,9 @@ public class OrderTable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private Boolean isPay;
+    // 金额在库中为 DECIMAL(10,2)，读写时与 Double 互转
+    @Column(precision = 10, scale = 2)
+    @JdbcTypeCode(SqlTypes.DECIMAL)
     private Double payAmount;
     private Long businessId;
     private Long userId;
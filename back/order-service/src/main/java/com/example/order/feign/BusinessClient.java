@@ -1,14 +1,17 @@
 package com.example.order.feign;
 
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "business-service")
+@FeignClient(name = "business-service", fallbackFactory = BusinessClientFallbackFactory.class)
 public interface BusinessClient {
     @GetMapping("/business/{id}")
-    Object getBusinessById(@PathVariable("id") Long id);
+    Result<BusinessInfo> getBusinessById(@PathVariable("id") Long id);
 
     @GetMapping("/commodity/{id}")
-    Object getCommodityById(@PathVariable("id") Long id);
-} 
\ No newline at end of file
+    Result<CommodityInfo> getCommodityById(@PathVariable("id") Long id);
+}
@@ -0,0 +1,32 @@
+package com.example.order.feign;
+
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+// business-service 熔断、限流或超时时，优先返回最近一次成功的数据
+@Component
+public class BusinessClientFallbackFactory implements FallbackFactory<BusinessClient> {
+    @Autowired
+    private BusinessSnapshotCache snapshotCache;
+
+    @Override
+    public BusinessClient create(Throwable cause) {
+        return new BusinessClient() {
+            @Override
+            public Result<BusinessInfo> getBusinessById(Long id) {
+                BusinessInfo business = snapshotCache.getBusiness(id);
+                return business != null ? Result.success(business) : Result.error("商家服务繁忙，请稍后重试");
+            }
+
+            @Override
+            public Result<CommodityInfo> getCommodityById(Long id) {
+                CommodityInfo commodity = snapshotCache.getCommodity(id);
+                return commodity != null ? Result.success(commodity) : Result.error("商品服务繁忙，请稍后重试");
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.order.feign;
+
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 记录 business-service 最近一次成功返回的商家、商品信息，
+ * business-service 熔断或超时时由 BusinessClientFallbackFactory 兜底返回。
+ */
+@Aspect
+@Component
+public class BusinessSnapshotCache {
+    private static final int MAX_SIZE = 10000;
+
+    private final Map<Long, BusinessInfo> businesses = new ConcurrentHashMap<>();
+    private final Map<Long, CommodityInfo> commodities = new ConcurrentHashMap<>();
+
+    @AfterReturning(pointcut = "execution(* com.example.order.feign.BusinessClient.getBusinessById(..)) && args(id)",
+            returning = "result")
+    public void afterBusiness(JoinPoint joinPoint, Long id, Result<BusinessInfo> result) {
+        if (id != null && result != null && result.isSuccess() && result.getData() != null) {
+            put(businesses, id, result.getData());
+        }
+    }
+
+    @AfterReturning(pointcut = "execution(* com.example.order.feign.BusinessClient.getCommodityById(..)) && args(id)",
+            returning = "result")
+    public void afterCommodity(JoinPoint joinPoint, Long id, Result<CommodityInfo> result) {
+        if (id != null && result != null && result.isSuccess() && result.getData() != null) {
+            put(commodities, id, result.getData());
+        }
+    }
+
+    public BusinessInfo getBusiness(Long id) {
+        return id == null ? null : businesses.get(id);
+    }
+
+    public CommodityInfo getCommodity(Long id) {
+        return id == null ? null : commodities.get(id);
+    }
+
+    private <T> void put(Map<Long, T> cache, Long id, T value) {
+        // 目录数据量小，达到上限后只更新已有条目
+        if (cache.size() < MAX_SIZE || cache.containsKey(id)) {
+            cache.put(id, value);
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.example.order.feign;
 
+import com.example.common.Result;
+import com.example.common.dto.UserInfo;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import java.util.Map;
 
-@FeignClient(name = "user-service")
+@FeignClient(name = "user-service", fallbackFactory = UserFeignClientFallbackFactory.class)
 public interface UserFeignClient {
     @GetMapping("/user/getByUsername")
-    Map getByUsername(@RequestParam("username") String username);
-} 
\ No newline at end of file
+    Result<UserInfo> getByUsername(@RequestParam("username") String username);
+}
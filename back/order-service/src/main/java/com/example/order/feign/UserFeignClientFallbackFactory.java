@@ -0,0 +1,15 @@
+package com.example.order.feign;
+
+import com.example.common.Result;
+import com.example.common.dto.UserInfo;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+// user-service 熔断、限流或超时时快速失败，不占用下单线程
+@Component
+public class UserFeignClientFallbackFactory implements FallbackFactory<UserFeignClient> {
+    @Override
+    public UserFeignClient create(Throwable cause) {
+        return username -> Result.error("用户服务繁忙，请稍后重试");
+    }
+}
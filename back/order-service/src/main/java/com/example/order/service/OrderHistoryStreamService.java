@@ -0,0 +1,191 @@
+package com.example.order.service;
+
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import com.example.common.dto.UserInfo;
+import com.example.order.dao.OrderDAO;
+import com.example.order.dao.OrderItemDAO;
+import com.example.order.dto.OrderItemDTO;
+import com.example.order.dto.OrderTableDTO;
+import com.example.order.entity.OrderItem;
+import com.example.order.entity.OrderTable;
+import com.example.order.feign.BusinessSnapshotCache;
+import com.example.order.feign.UserFeignClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 订单历史的流式版本：与 OrderService.getPayedOrderByUserId 字段含义相同，但不等全部订单组装完，
+ * 每个订单一组装好就按原顺序输出。商家、商品通过 WebClient 并发查询，JPA 查询放到有界的 JDBC 线程池，
+ * 等待期间不占用任何线程。
+ */
+@Service
+public class OrderHistoryStreamService {
+    private static final Logger log = LoggerFactory.getLogger(OrderHistoryStreamService.class);
+
+    private static final ParameterizedTypeReference<Result<BusinessInfo>> BUSINESS_RESULT =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Result<CommodityInfo>> COMMODITY_RESULT =
+            new ParameterizedTypeReference<>() {};
+
+    @Autowired
+    private OrderDAO orderDAO;
+    @Autowired
+    private OrderItemDAO orderItemDAO;
+    @Autowired
+    private BusinessSnapshotCache snapshotCache;
+    @Autowired
+    private UserFeignClient userFeignClient;
+    @Autowired
+    @Qualifier("businessWebClient")
+    private WebClient businessWebClient;
+    @Autowired
+    @Qualifier("orderHistoryJdbcScheduler")
+    private Scheduler jdbcScheduler;
+
+    // 与 Feign 调用 business-service 的读超时一致
+    @Value("${order.history.business-timeout-millis:2000}")
+    private long businessTimeoutMillis;
+
+    // 同时组装的订单数
+    @Value("${order.history.concurrency:8}")
+    private int concurrency;
+
+    // username 取自 JWT subject，经 user-service 换成 userId；获取失败时返回 null。
+    // 在返回 Flux 之前调用：流一旦开始，响应状态已是 200，之后的错误无法再变成 503
+    public Long resolveUserId(String username) {
+        Result<UserInfo> result;
+        try {
+            result = userFeignClient.getByUsername(username);
+        } catch (RuntimeException e) {
+            // 未启用 Sentinel 降级时 Feign 异常会直接抛出
+            log.warn("用户信息获取失败, username={}: {}", username, e.toString());
+            return null;
+        }
+        UserInfo user = result != null && result.isSuccess() ? result.getData() : null;
+        if (user == null || user.getId() == null) {
+            log.warn("用户信息获取失败, username={}", username);
+            return null;
+        }
+        return user.getId();
+    }
+
+    public Flux<OrderTableDTO> stream(Long userId, boolean paid, String fields) {
+        Set<String> selected = OrderService.parseFields(fields);
+        // 同一次请求内商家、商品只查询一次
+        Map<Long, Mono<BusinessInfo>> businesses = new ConcurrentHashMap<>();
+        Map<Long, Mono<CommodityInfo>> commodities = new ConcurrentHashMap<>();
+        return blocking(() -> orderDAO.findByUserIdAndIsPay(userId, paid))
+                .flatMapMany(Flux::fromIterable)
+                .flatMapSequential(order -> enrich(order, selected, businesses, commodities), concurrency);
+    }
+
+    private Mono<OrderTableDTO> enrich(OrderTable order, Set<String> fields,
+                                       Map<Long, Mono<BusinessInfo>> businesses,
+                                       Map<Long, Mono<CommodityInfo>> commodities) {
+        OrderTableDTO dto = new OrderTableDTO();
+        dto.setOrderId(order.getId());
+        dto.setPayAmount(order.getPayAmount());
+
+        Mono<Optional<BusinessInfo>> business = Mono.just(Optional.empty());
+        if (OrderService.wants(fields, "businessName", "businessDeliveryFees") && order.getBusinessId() != null) {
+            business = businesses.computeIfAbsent(order.getBusinessId(), this::business)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+        }
+        Mono<Optional<List<OrderItemDTO>>> items = Mono.just(Optional.empty());
+        if (OrderService.wants(fields, "orderItemDTOs", "productName", "commodityPrice", "image")) {
+            items = blocking(() -> orderItemDAO.findByOrderTableId(order.getId()))
+                    .flatMapMany(Flux::fromIterable)
+                    .flatMapSequential(item -> item(item, fields, commodities))
+                    .collectList()
+                    .map(Optional::of);
+        }
+        return Mono.zip(business, items).map(tuple -> {
+            tuple.getT1().ifPresent(info -> {
+                if (OrderService.wants(fields, "businessName")) {
+                    dto.setBusinessName(info.getName());
+                }
+                if (OrderService.wants(fields, "businessDeliveryFees")) {
+                    dto.setBusinessDeliveryFees(info.getDeliveryFees());
+                }
+            });
+            tuple.getT2().ifPresent(dto::setOrderItemDTOs);
+            return dto;
+        });
+    }
+
+    private Mono<OrderItemDTO> item(OrderItem item, Set<String> fields, Map<Long, Mono<CommodityInfo>> commodities) {
+        OrderItemDTO dto = new OrderItemDTO();
+        dto.setId(item.getId());
+        dto.setQuanity(item.getQuanity());
+        dto.setCommodityId(item.getCommodityId());
+        if (!OrderService.wants(fields, "productName", "commodityPrice", "image") || item.getCommodityId() == null) {
+            return Mono.just(dto);
+        }
+        return commodities.computeIfAbsent(item.getCommodityId(), this::commodity)
+                .map(commodity -> {
+                    if (OrderService.wants(fields, "productName")) {
+                        dto.setProductName(commodity.getCommodityName());
+                    }
+                    if (OrderService.wants(fields, "commodityPrice")) {
+                        dto.setCommodityPrice(commodity.getPrice());
+                    }
+                    if (OrderService.wants(fields, "image")) {
+                        dto.setImage(commodity.getImage());
+                    }
+                    return dto;
+                })
+                .defaultIfEmpty(dto);
+    }
+
+    // 失败或超时时与 Feign 降级一致：返回最近一次成功的快照，没有则不填充商家字段
+    private Mono<BusinessInfo> business(Long id) {
+        return businessWebClient.get().uri("/business/{id}", id)
+                .retrieve()
+                .bodyToMono(BUSINESS_RESULT)
+                .timeout(Duration.ofMillis(businessTimeoutMillis))
+                .flatMap(result -> Mono.justOrEmpty(result.isSuccess() ? result.getData() : null))
+                .onErrorResume(e -> {
+                    log.warn("查询商家失败, 使用快照, businessId={}: {}", id, e.toString());
+                    return Mono.justOrEmpty(snapshotCache.getBusiness(id));
+                })
+                .cache();
+    }
+
+    private Mono<CommodityInfo> commodity(Long id) {
+        return businessWebClient.get().uri("/commodity/{id}", id)
+                .retrieve()
+                .bodyToMono(COMMODITY_RESULT)
+                .timeout(Duration.ofMillis(businessTimeoutMillis))
+                .flatMap(result -> Mono.justOrEmpty(result.isSuccess() ? result.getData() : null))
+                .onErrorResume(e -> {
+                    log.warn("查询商品失败, 使用快照, commodityId={}: {}", id, e.toString());
+                    return Mono.justOrEmpty(snapshotCache.getCommodity(id));
+                })
+                .cache();
+    }
+
+    // 阻塞的 JPA 查询放到 JDBC 线程池执行，线程数与连接池一致，超出的排队等待
+    private <T> Mono<T> blocking(Callable<T> query) {
+        return Mono.fromCallable(query).subscribeOn(jdbcScheduler);
+    }
+}
@@ -10,17 +10,27 @@ import com.example.order.dto.OrderItemDTO;
 import com.example.order.feign.BusinessClient;
 import com.example.order.feign.UserFeignClient;
 import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import com.example.common.dto.UserInfo;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class OrderService {
+    private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
     @Autowired
     private OrderDAO orderDAO;
     @Autowired
@@ -31,35 +41,27 @@ public class OrderService {
     private UserFeignClient userFeignClient;
 
     @Transactional
+    @Timed(value = "order.service", extraTags = {"method", "createOrder"}, histogram = true)
     public Result createOrder(OrderCreateDTO orderCreateDTO, String username) {
-        System.out.println("[OrderService] createOrder called, username: " + username);
+        log.debug("createOrder called, username={}", username);
         // 0. 远程获取用户信息
-        Map userResult = userFeignClient.getByUsername(username);
-        System.out.println("[OrderService] userResult: " + userResult);
-        if (userResult == null || !Boolean.TRUE.equals(userResult.get("success")) || userResult.get("data") == null) {
-            System.out.println("[OrderService] 用户信息获取失败");
+        Result<UserInfo> userResult = userFeignClient.getByUsername(username);
+        if (userResult == null || !userResult.isSuccess() || userResult.getData() == null) {
+            log.warn("用户信息获取失败, username={}", username);
             return Result.error("用户信息获取失败");
         }
-        Map userData = (Map) userResult.get("data");
-        System.out.println("[OrderService] userData: " + userData);
-        if (userData == null || userData.get("id") == null) {
-            System.out.println("[OrderService] 用户信息无效");
+        UserInfo userData = userResult.getData();
+        if (userData.getId() == null) {
+            log.warn("用户信息无效, username={}", username);
             return Result.error("用户信息无效");
         }
-        Long userId = ((Number) userData.get("id")).longValue();
+        Long userId = userData.getId();
         // 1. 远程获取商家信息
-        Object businessObj = businessClient.getBusinessById(orderCreateDTO.getBusinessId());
-        System.out.println("[OrderService] businessObj: " + businessObj);
-        String businessName = null;
-        if (businessObj instanceof Map) {
-            Map map = (Map) businessObj;
-            Object data = map.get("data");
-            if (data instanceof Map) {
-                businessName = (String) ((Map) data).get("name");
-            }
-        }
+        Result<BusinessInfo> businessResult = businessClient.getBusinessById(orderCreateDTO.getBusinessId());
+        String businessName = businessResult != null && businessResult.getData() != null
+                ? businessResult.getData().getName() : null;
         if (businessName == null) {
-            System.out.println("[OrderService] 商家信息获取失败");
+            log.warn("商家信息获取失败, businessId={}", orderCreateDTO.getBusinessId());
             return Result.error("商家信息获取失败");
         }
         // 2. 组装订单
@@ -72,23 +74,12 @@ public class OrderService {
         double total = 0;
         HashSet<OrderItem> orderItems = new HashSet<>();
         for (OrderCreateDTO.OrderItemCreateDTO itemDTO : orderCreateDTO.getOrderItems()) {
-            Object commodityObj = businessClient.getCommodityById(itemDTO.getCommodityId());
-            System.out.println("[OrderService] commodityObj: " + commodityObj);
+            Result<CommodityInfo> commodityResult = businessClient.getCommodityById(itemDTO.getCommodityId());
             // String name = null, img = null; // 实体类无此字段
-            Double price = null;
-            if (commodityObj instanceof Map) {
-                Map map = (Map) commodityObj;
-                Object data = map.get("data");
-                if (data instanceof Map) {
-                    Map<String, Object> dataMap = (Map<String, Object>) data;
-                    // name = (String) dataMap.get("name");
-                    // img = (String) dataMap.get("img");
-                    Object priceObj = dataMap.get("price");
-                    price = priceObj instanceof Number ? ((Number) priceObj).doubleValue() : null;
-                }
-            }
+            Double price = commodityResult != null && commodityResult.getData() != null
+                    ? commodityResult.getData().getPrice() : null;
             if (price == null) {
-                System.out.println("[OrderService] 商品信息获取失败, commodityId: " + itemDTO.getCommodityId());
+                log.warn("商品信息获取失败, commodityId={}", itemDTO.getCommodityId());
                 return Result.error("商品信息获取失败");
             }
             OrderItem orderItem = new OrderItem();
@@ -104,15 +95,15 @@ public class OrderService {
         // order.setOrderItems(orderItems); // 实体类无此字段
         order.setPayAmount(total);
         order.setUserId(userId); // 补全 userId
-        System.out.println("[OrderService] order to save: " + order);
+        log.debug("order to save: {}", order);
         orderDAO.save(order); // 保存主表
         // 保存明细表
         for (OrderItem item : orderItems) {
             item.setOrderTableId(order.getId());
         }
-        System.out.println("[OrderService] orderItems to save: " + orderItems);
+        log.debug("orderItems to save: {}", orderItems);
         orderItemDAO.saveAll(orderItems);
-        System.out.println("[OrderService] createOrder success, orderId: " + order.getId());
+        log.info("createOrder success, orderId={}, userId={}", order.getId(), userId);
         return Result.success(order.getId());
     }
 
@@ -138,108 +129,113 @@ public class OrderService {
     }
 
     public List<OrderTableDTO> getPayedOrderByUserId(Long userId) {
-        List<OrderTable> orders = orderDAO.findAll(); // 实际应按 userId 和 isPay=true 过滤
-        List<OrderTableDTO> dtos = new ArrayList<>();
-        for (OrderTable order : orders) {
-            if (!userId.equals(order.getUserId())) continue;
-            if (!Boolean.TRUE.equals(order.getIsPay())) continue;
-            System.out.println("orderId=" + order.getId() + ", businessId=" + order.getBusinessId());
-            OrderTableDTO dto = new OrderTableDTO();
-            dto.setOrderId(order.getId());
-            dto.setPayAmount(order.getPayAmount());
-            // 获取商家信息
-            Object businessObj = businessClient.getBusinessById(order.getBusinessId());
-            if (businessObj instanceof Map) {
-                Map map = (Map) businessObj;
-                Object data = map.get("data");
-                if (data instanceof Map) {
-                    dto.setBusinessName((String) ((Map) data).get("name"));
-                    Object deliveryFees = ((Map) data).get("deliveryFees");
-                    if (deliveryFees instanceof Number) {
-                        dto.setBusinessDeliveryFees(((Number) deliveryFees).doubleValue());
-                    }
-                }
+        return getPayedOrderByUserId(userId, null);
+    }
+
+    // fields 为逗号分隔的字段名，为空时返回全部字段
+    @Timed(value = "order.service", extraTags = {"method", "getPayedOrder"}, histogram = true)
+    public List<OrderTableDTO> getPayedOrderByUserId(Long userId, String fields) {
+        List<OrderTable> orders = orderDAO.findByUserIdAndIsPay(userId, true);
+        return toOrderTableDTOs(orders, parseFields(fields));
+    }
+
+    public List<OrderTableDTO> getUnpayOrderByUserId(Long userId) {
+        return getUnpayOrderByUserId(userId, null);
+    }
+
+    @Timed(value = "order.service", extraTags = {"method", "getUnpayOrder"}, histogram = true)
+    public List<OrderTableDTO> getUnpayOrderByUserId(Long userId, String fields) {
+        List<OrderTable> orders = orderDAO.findByUserIdAndIsPay(userId, false);
+        return toOrderTableDTOs(orders, parseFields(fields));
+    }
+
+    // fields 为空时返回 null，表示全部字段；OrderHistoryStreamService 共用
+    static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> result = new HashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                result.add(field.trim());
             }
-            // 获取订单明细
-            List<OrderItem> items = orderItemDAO.findByOrderTableId(order.getId());
-            System.out.println("orderId=" + order.getId() + ", orderItems count=" + items.size());
-            List<OrderItemDTO> itemDTOs = new ArrayList<>();
-            for (OrderItem item : items) {
-                OrderItemDTO itemDTO = new OrderItemDTO();
-                itemDTO.setId(item.getId());
-                itemDTO.setQuanity(item.getQuanity());
-                itemDTO.setCommodityId(item.getCommodityId());
-                // 远程查商品信息
-                Object commodityObj = businessClient.getCommodityById(item.getCommodityId());
-                if (commodityObj instanceof Map) {
-                    Map map = (Map) commodityObj;
-                    Object data = map.get("data");
-                    if (data instanceof Map) {
-                        itemDTO.setProductName((String) ((Map) data).get("commodityName"));
-                        Object price = ((Map) data).get("price");
-                        if (price instanceof Number) {
-                            itemDTO.setCommodityPrice(((Number) price).doubleValue());
-                        }
-                        itemDTO.setImage((String) ((Map) data).get("image"));
-                    }
-                }
-                itemDTOs.add(itemDTO);
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    static boolean wants(Set<String> fields, String... names) {
+        if (fields == null) {
+            return true;
+        }
+        for (String name : names) {
+            if (fields.contains(name)) {
+                return true;
             }
-            dto.setOrderItemDTOs(itemDTOs);
-            dtos.add(dto);
         }
-        return dtos;
+        return false;
     }
 
-    public List<OrderTableDTO> getUnpayOrderByUserId(Long userId) {
-        List<OrderTable> orders = orderDAO.findAll(); // 实际应按 userId 和 isPay=false 过滤
+    // 组装订单详情：同一次请求内商家、商品只远程查询一次，未请求的字段不发起远程调用
+    private List<OrderTableDTO> toOrderTableDTOs(List<OrderTable> orders, Set<String> fields) {
+        boolean needBusiness = wants(fields, "businessName", "businessDeliveryFees");
+        boolean needItems = wants(fields, "orderItemDTOs", "productName", "commodityPrice", "image");
+        boolean needCommodity = wants(fields, "productName", "commodityPrice", "image");
+        Map<Long, BusinessInfo> businessCache = new HashMap<>();
+        Map<Long, CommodityInfo> commodityCache = new HashMap<>();
         List<OrderTableDTO> dtos = new ArrayList<>();
         for (OrderTable order : orders) {
-            if (!userId.equals(order.getUserId())) continue;
-            if (!Boolean.FALSE.equals(order.getIsPay())) continue;
             OrderTableDTO dto = new OrderTableDTO();
             dto.setOrderId(order.getId());
             dto.setPayAmount(order.getPayAmount());
             // 获取商家信息
-            Object businessObj = businessClient.getBusinessById(order.getBusinessId());
-            if (businessObj instanceof Map) {
-                Map map = (Map) businessObj;
-                Object data = map.get("data");
-                if (data instanceof Map) {
-                    dto.setBusinessName((String) ((Map) data).get("name"));
-                    Object deliveryFees = ((Map) data).get("deliveryFees");
-                    if (deliveryFees instanceof Number) {
-                        dto.setBusinessDeliveryFees(((Number) deliveryFees).doubleValue());
+            if (needBusiness && order.getBusinessId() != null) {
+                BusinessInfo business = businessCache.computeIfAbsent(order.getBusinessId(),
+                        id -> unwrapData(businessClient.getBusinessById(id)));
+                if (business != null) {
+                    if (wants(fields, "businessName")) {
+                        dto.setBusinessName(business.getName());
+                    }
+                    if (wants(fields, "businessDeliveryFees")) {
+                        dto.setBusinessDeliveryFees(business.getDeliveryFees());
                     }
                 }
             }
             // 获取订单明细
-            List<OrderItem> items = orderItemDAO.findByOrderTableId(order.getId());
-            List<OrderItemDTO> itemDTOs = new ArrayList<>();
-            for (OrderItem item : items) {
-                OrderItemDTO itemDTO = new OrderItemDTO();
-                itemDTO.setId(item.getId());
-                itemDTO.setQuanity(item.getQuanity());
-                itemDTO.setCommodityId(item.getCommodityId());
-                // 远程查商品信息
-                Object commodityObj = businessClient.getCommodityById(item.getCommodityId());
-                if (commodityObj instanceof Map) {
-                    Map map = (Map) commodityObj;
-                    Object data = map.get("data");
-                    if (data instanceof Map) {
-                        itemDTO.setProductName((String) ((Map) data).get("commodityName"));
-                        Object price = ((Map) data).get("price");
-                        if (price instanceof Number) {
-                            itemDTO.setCommodityPrice(((Number) price).doubleValue());
+            if (needItems) {
+                List<OrderItem> items = orderItemDAO.findByOrderTableId(order.getId());
+                List<OrderItemDTO> itemDTOs = new ArrayList<>();
+                for (OrderItem item : items) {
+                    OrderItemDTO itemDTO = new OrderItemDTO();
+                    itemDTO.setId(item.getId());
+                    itemDTO.setQuanity(item.getQuanity());
+                    itemDTO.setCommodityId(item.getCommodityId());
+                    // 远程查商品信息
+                    if (needCommodity && item.getCommodityId() != null) {
+                        CommodityInfo commodity = commodityCache.computeIfAbsent(item.getCommodityId(),
+                                id -> unwrapData(businessClient.getCommodityById(id)));
+                        if (commodity != null) {
+                            if (wants(fields, "productName")) {
+                                itemDTO.setProductName(commodity.getCommodityName());
+                            }
+                            if (wants(fields, "commodityPrice")) {
+                                itemDTO.setCommodityPrice(commodity.getPrice());
+                            }
+                            if (wants(fields, "image")) {
+                                itemDTO.setImage(commodity.getImage());
+                            }
                         }
-                        itemDTO.setImage((String) ((Map) data).get("image"));
                     }
+                    itemDTOs.add(itemDTO);
                 }
-                itemDTOs.add(itemDTO);
+                dto.setOrderItemDTOs(itemDTOs);
             }
-            dto.setOrderItemDTOs(itemDTOs);
             dtos.add(dto);
         }
         return dtos;
     }
+
+    // 取出远程 Result 中的 data，失败时返回 null
+    private <T> T unwrapData(Result<T> response) {
+        return response != null && response.isSuccess() ? response.getData() : null;
+    }
 } 
\ No newline at end of file
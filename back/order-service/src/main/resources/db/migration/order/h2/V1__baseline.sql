@@ -0,0 +1,17 @@
+-- 与 mysql/V1__baseline.sql 相同的表结构，H2 只用于本地压测与测试
+CREATE TABLE IF NOT EXISTS order_table (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    isPay      BOOLEAN,
+    payAmount  DOUBLE PRECISION,
+    businessId BIGINT,
+    userId     BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_item (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    quanity      INT,
+    commodityId  BIGINT,
+    orderTableId BIGINT,
+    PRIMARY KEY (id)
+);
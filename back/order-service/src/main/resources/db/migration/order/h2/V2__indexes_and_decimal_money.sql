@@ -0,0 +1,11 @@
+-- 与 mysql/V2__indexes_and_decimal_money.sql 相同的变更
+ALTER TABLE order_table ALTER COLUMN payAmount SET DATA TYPE DECIMAL(10, 2);
+
+UPDATE order_table SET isPay = FALSE WHERE isPay IS NULL;
+ALTER TABLE order_table ALTER COLUMN isPay SET DEFAULT FALSE;
+ALTER TABLE order_table ALTER COLUMN isPay SET NOT NULL;
+ALTER TABLE order_table ALTER COLUMN userId SET NOT NULL;
+CREATE INDEX idx_order_table_user_pay ON order_table (userId, isPay);
+
+ALTER TABLE order_item ALTER COLUMN orderTableId SET NOT NULL;
+CREATE INDEX idx_order_item_order_table_id ON order_item (orderTableId);
@@ -0,0 +1,15 @@
+-- 与 mysql/V3__quarantine_orphan_orders.sql 相同的变更
+CREATE TABLE IF NOT EXISTS order_table_orphan AS SELECT * FROM order_table WITH NO DATA;
+ALTER TABLE order_table_orphan ALTER COLUMN userId SET NULL;
+CREATE TABLE IF NOT EXISTS order_item_orphan AS SELECT * FROM order_item WITH NO DATA;
+ALTER TABLE order_item_orphan ALTER COLUMN orderTableId SET NULL;
+
+INSERT INTO order_item_orphan
+SELECT * FROM order_item
+WHERE orderTableId IS NULL OR orderTableId IN (SELECT id FROM order_table WHERE userId IS NULL);
+INSERT INTO order_table_orphan SELECT * FROM order_table WHERE userId IS NULL;
+DELETE FROM order_item WHERE id IN (SELECT id FROM order_item_orphan);
+DELETE FROM order_table WHERE id IN (SELECT id FROM order_table_orphan);
+
+ALTER TABLE order_table ALTER COLUMN userId SET NOT NULL;
+ALTER TABLE order_item ALTER COLUMN orderTableId SET NOT NULL;
@@ -0,0 +1,17 @@
+-- 与之前 hbm2ddl 建出的表一致；已有表的库按版本 0 基线化后执行本脚本不会改动已有表
+CREATE TABLE IF NOT EXISTS order_table (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    isPay      BIT(1),
+    payAmount  DOUBLE,
+    businessId BIGINT,
+    userId     BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_item (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    quanity      INT,
+    commodityId  BIGINT,
+    orderTableId BIGINT,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,12 @@
+-- 金额改为定点数，按分保存
+ALTER TABLE order_table MODIFY COLUMN payAmount DECIMAL(10, 2);
+
+-- 订单历史按用户与支付状态查询（OrderDAO.findByUserIdAndIsPay）；InnoDB 二级索引带主键，按 id 排序无需回表排序
+UPDATE order_table SET isPay = b'0' WHERE isPay IS NULL;
+ALTER TABLE order_table MODIFY COLUMN isPay BIT(1) NOT NULL DEFAULT b'0';
+ALTER TABLE order_table MODIFY COLUMN userId BIGINT NOT NULL;
+CREATE INDEX idx_order_table_user_pay ON order_table (userId, isPay);
+
+-- 订单明细按订单查询（OrderItemDAO.findByOrderTableId）
+ALTER TABLE order_item MODIFY COLUMN orderTableId BIGINT NOT NULL;
+CREATE INDEX idx_order_item_order_table_id ON order_item (orderTableId);
@@ -0,0 +1,17 @@
+-- hbm2ddl 建的旧库允许 userId、orderTableId 为空：这类订单、明细不删除，移到隔离表留待人工核对，再确认非空约束
+-- 隔离表与原表结构相同，外键列允许为空
+CREATE TABLE IF NOT EXISTS order_table_orphan LIKE order_table;
+ALTER TABLE order_table_orphan MODIFY COLUMN userId BIGINT NULL;
+CREATE TABLE IF NOT EXISTS order_item_orphan LIKE order_item;
+ALTER TABLE order_item_orphan MODIFY COLUMN orderTableId BIGINT NULL;
+
+-- 没有用户的订单连同其明细、不属于任何订单的明细
+INSERT INTO order_item_orphan
+SELECT * FROM order_item
+WHERE orderTableId IS NULL OR orderTableId IN (SELECT id FROM order_table WHERE userId IS NULL);
+INSERT INTO order_table_orphan SELECT * FROM order_table WHERE userId IS NULL;
+DELETE FROM order_item WHERE id IN (SELECT id FROM order_item_orphan);
+DELETE FROM order_table WHERE id IN (SELECT id FROM order_table_orphan);
+
+ALTER TABLE order_table MODIFY COLUMN userId BIGINT NOT NULL;
+ALTER TABLE order_item MODIFY COLUMN orderTableId BIGINT NOT NULL;
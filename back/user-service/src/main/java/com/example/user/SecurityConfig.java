@@ -13,6 +13,10 @@ public class SecurityConfig {
         http
             .csrf().disable()
             .authorizeHttpRequests(auth -> auth
+                // 批量导入只对渠道合作方、管理员开放：令牌须带 scope user.import（auth.token.import-usernames）
+                .requestMatchers("/user/import").hasAuthority("SCOPE_user.import")
+                // 登录校验返回密码：只接受 auth-service 签发给自己的服务令牌（scope user.credentials）
+                .requestMatchers("/user/credentials").hasAuthority("SCOPE_user.credentials")
                 .requestMatchers("/user/**", "/actuator/**").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .anyRequest().authenticated()
@@ -1,13 +1,27 @@
 package com.example.user;
 
+import com.example.common.config.MetricsConfig;
+import com.example.common.config.RequestIdConfig;
+import com.example.common.config.SmileWebConfig;
+import com.example.common.config.StartupConfig;
+import com.example.common.feign.FeignCodecConfig;
+import com.example.common.feign.FeignPoolMetricsConfig;
+import com.example.common.security.JwtDecoderConfig;
+import com.example.common.security.TokenRevocationConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.Import;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
-@EnableFeignClients(basePackages = "com.example.user.feign")
+@EnableFeignClients(basePackages = "com.example.user.feign", defaultConfiguration = FeignCodecConfig.class)
+@Import({SmileWebConfig.class, MetricsConfig.class, RequestIdConfig.class, FeignPoolMetricsConfig.class, TokenRevocationConfig.class, JwtDecoderConfig.class, StartupConfig.class})
 @SpringBootApplication
 public class UserServiceApplication {
     public static void main(String[] args) {
-        SpringApplication.run(UserServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(UserServiceApplication.class);
+        // 记录启动各步骤耗时，完整时间线见 /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.example.user.cache;
+
+import com.example.user.dao.UserDAO;
+import com.example.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 用户信息两级缓存：L1 本地 Caffeine，L2 Redis，未命中时回源 MySQL。
+ * Redis 中保存 user:{id} -> 用户 JSON 与 user:username:{username} -> id 两类 key，
+ * 不存在的用户名/ID 仅在 Redis 中以空串短时缓存防止穿透（注册时会被覆盖），不进入 L1。
+ * 同一 key 的并发回源合并为一次，Redis 过期时间加随机抖动避免集中失效。
+ * 回源在调用线程上、Caffeine 的锁之外执行：虚拟线程在 synchronized（ConcurrentHashMap.compute）内做 I/O 会占住载体线程。
+ * 两级缓存中的用户都不含 password、token，登录校验由 UserService.getCredentialsByUsername 直接查库。
+ */
+@Component
+public class UserCache {
+    private static final Logger log = LoggerFactory.getLogger(UserCache.class);
+
+    private static final String USER_KEY = "user:";
+    private static final String USERNAME_KEY = "user:username:";
+    private static final String MISSING = "";
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${user.cache.redis-ttl-seconds:1800}")
+    private long redisTtlSeconds;
+
+    @Value("${user.cache.missing-ttl-seconds:60}")
+    private long missingTtlSeconds;
+
+    private final AsyncCache<Long, User> usersById;
+    private final AsyncCache<String, Long> idsByUsername;
+
+    public UserCache(@Value("${user.cache.local-ttl-seconds:10}") long localTtlSeconds,
+                     @Value("${user.cache.local-max-size:10000}") long localMaxSize) {
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .buildAsync();
+        this.idsByUsername = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .buildAsync();
+    }
+
+    public User getById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return getOrLoad(usersById, id, this::loadById);
+    }
+
+    public Long getIdByUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        return getOrLoad(idsByUsername, username, this::loadIdByUsername);
+    }
+
+    public User getByUsername(String username) {
+        Long id = getIdByUsername(username);
+        return id != null ? getById(id) : null;
+    }
+
+    // 写入或更新用户后调用：事务提交后写入两级缓存，覆盖之前缓存的“不存在”
+    public void put(User user) {
+        User cached = withoutCredentials(user);
+        runAfterCommit(() -> {
+            writeRedis(cached);
+            usersById.synchronous().put(cached.getId(), cached);
+            idsByUsername.synchronous().put(cached.getUsername(), cached.getId());
+        });
+    }
+
+    // 删除或修改用户名前调用：事务提交后清除两级缓存
+    public void evict(Long id, String username) {
+        runAfterCommit(() -> {
+            try {
+                if (id != null) {
+                    stringRedisTemplate.delete(USER_KEY + id);
+                }
+                if (username != null) {
+                    stringRedisTemplate.delete(USERNAME_KEY + username);
+                }
+            } catch (Exception e) {
+                log.warn("清除用户缓存失败, id={}, username={}", id, username, e);
+            }
+            if (id != null) {
+                usersById.synchronous().invalidate(id);
+            }
+            if (username != null) {
+                idsByUsername.synchronous().invalidate(username);
+            }
+        });
+    }
+
+    // 批量导入后清除这些用户名在 Redis 中的“不存在”标记
+    public void evictUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        for (String username : usernames) {
+            keys.add(USERNAME_KEY + username);
+        }
+        try {
+            stringRedisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("清除用户名缓存失败, count={}", usernames.size(), e);
+        }
+        idsByUsername.synchronous().invalidateAll(usernames);
+    }
+
+    // 先占位再回源：同一 key 的其他请求等待这个 future，结果为 null 时 Caffeine 自动移除占位，不进入 L1
+    private static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            V value = loader.apply(key);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private User loadById(Long id) {
+        String json = readRedis(USER_KEY + id);
+        if (json != null) {
+            if (MISSING.equals(json)) {
+                return null;
+            }
+            try {
+                // 升级前写入的缓存可能仍带凭据，读出时一并去掉
+                return withoutCredentials(objectMapper.readValue(json, User.class));
+            } catch (Exception e) {
+                log.warn("解析缓存用户失败, id={}", id, e);
+            }
+        }
+        User user = userDAO.findById(id).map(UserCache::withoutCredentials).orElse(null);
+        if (user != null) {
+            writeRedis(user);
+        } else {
+            writeRedis(USER_KEY + id, MISSING, missingTtlSeconds);
+        }
+        return user;
+    }
+
+    private Long loadIdByUsername(String username) {
+        String value = readRedis(USERNAME_KEY + username);
+        if (value != null) {
+            return MISSING.equals(value) ? null : Long.valueOf(value);
+        }
+        User found = userDAO.findByUsername(username);
+        if (found == null) {
+            writeRedis(USERNAME_KEY + username, MISSING, missingTtlSeconds);
+            return null;
+        }
+        User user = withoutCredentials(found);
+        writeRedis(user);
+        usersById.synchronous().put(user.getId(), user);
+        return user.getId();
+    }
+
+    private void writeRedis(User user) {
+        try {
+            long ttl = redisTtlSeconds + ThreadLocalRandom.current().nextLong(redisTtlSeconds / 10 + 1);
+            writeRedis(USER_KEY + user.getId(), objectMapper.writeValueAsString(user), ttl);
+            writeRedis(USERNAME_KEY + user.getUsername(), String.valueOf(user.getId()), ttl);
+        } catch (Exception e) {
+            log.warn("写入用户缓存失败, id={}", user.getId(), e);
+        }
+    }
+
+    // 缓存用的副本：不带密码与 token，凭据不随用户信息进入 Redis 与本地缓存
+    private static User withoutCredentials(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setAddress(user.getAddress());
+        copy.setPhoneNumber(user.getPhoneNumber());
+        return copy;
+    }
+
+    // Redis 不可用时降级为直接查库
+    private String readRedis(String key) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("读取 Redis 失败, key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String value, long ttlSeconds) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, value, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("写入 Redis 失败, key={}", key, e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.user.cache;
+
+import com.example.common.utils.BloomFilter;
+import com.example.user.dao.UserDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 注册时的用户名布隆过滤器：判定不存在时跳过数据库查询，判定可能存在时再查库确认。
+ * 启动时从 UserDAO 分页重建；开启 user.bloom.redis-enabled 后位数组同步到 Redis bitmap，
+ * 多实例共享同一份数据，Redis 不可用时退回本地过滤器。
+ * 加载完成前一律返回“可能存在”，最终唯一性由 user.username 唯一索引保证。
+ */
+@Component
+public class UsernameBloomFilter {
+    private static final Logger log = LoggerFactory.getLogger(UsernameBloomFilter.class);
+
+    private static final String REDIS_KEY = "user:bloom:username";
+    private static final int PAGE_SIZE = 10000;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Value("${user.bloom.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    private final BloomFilter filter;
+    private volatile boolean ready;
+
+    public UsernameBloomFilter(@Value("${user.bloom.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${user.bloom.fpp:0.01}") double fpp) {
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int page = 0;
+        List<String> usernames;
+        do {
+            usernames = userDAO.findUsernames(PageRequest.of(page++, PAGE_SIZE));
+            for (String username : usernames) {
+                filter.put(username);
+            }
+            if (redisEnabled) {
+                writeRedis(usernames);
+            }
+        } while (usernames.size() == PAGE_SIZE);
+        ready = true;
+    }
+
+    public boolean mightExist(String username) {
+        if (!ready) {
+            return true;
+        }
+        if (redisEnabled) {
+            try {
+                List<Object> bits = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection redis = (StringRedisConnection) connection;
+                    for (long index : filter.bitIndexes(username)) {
+                        redis.getBit(REDIS_KEY, index);
+                    }
+                    return null;
+                });
+                return !bits.contains(Boolean.FALSE);
+            } catch (Exception e) {
+                log.warn("读取 Redis 布隆过滤器失败，按可能存在处理", e);
+            }
+        }
+        return filter.mightContain(username);
+    }
+
+    public void add(String username) {
+        filter.put(username);
+        if (redisEnabled) {
+            writeRedis(List.of(username));
+        }
+    }
+
+    private void writeRedis(List<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String username : usernames) {
+                    for (long index : filter.bitIndexes(username)) {
+                        redis.setBit(REDIS_KEY, index, true);
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("写入 Redis 布隆过滤器失败, count={}", usernames.size(), e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.user.config;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +32,7 @@ public class DataSourceConfig {
 
     @Bean(name = "masterDataSource")
     @Primary
+    @FlywayDataSource
     public DataSource masterDataSource(@Autowired Environment env) {
         return DataSourceBuilder.create()
                 .url(env.getProperty("spring.datasource.master.url"))
@@ -80,6 +84,9 @@ public class DataSourceConfig {
         properties.put("hibernate.dialect", env.getProperty("spring.jpa.database-platform"));
         properties.put("hibernate.show_sql", env.getProperty("spring.jpa.show-sql"));
         properties.put("hibernate.format_sql", env.getProperty("spring.jpa.properties.hibernate.format_sql"));
+        // 其余 spring.jpa.properties.* 原样交给 Hibernate，例如 AppCDS 训练运行时关闭启动阶段的 JDBC 元数据访问
+        Binder.get(env).bind("spring.jpa.properties", Bindable.mapOf(String.class, String.class))
+                .ifBound(properties::putAll);
         em.setJpaProperties(properties);
 
         return em;
@@ -1,15 +1,22 @@
 package com.example.user.controller;
 
+import com.example.user.service.UserImportService;
 import com.example.user.service.UserService;
 import com.example.user.dao.UserDAO;
 import com.example.user.dto.UserDTO;
 import com.example.user.entity.User;
 import com.example.common.Result;
+import com.example.common.dto.OrderInfo;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -19,11 +26,25 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserImportService userImportService;
+
     @PostMapping("/register")
     public Result register(@RequestBody UserDTO userDTO) {
         return userService.register(userDTO);
     }
 
+    // 批量导入用户：请求体为 NDJSON（每行一个 JSON）或 CSV，流式读取，返回逐行错误报告
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public Result importUsers(HttpServletRequest request) throws IOException {
+        Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.startsWith("text/csv")) {
+            return Result.success(userImportService.importCsv(reader));
+        }
+        return Result.success(userImportService.importNdjson(reader));
+    }
+
     @GetMapping("/{id}")
     public Result getUserById(@PathVariable Long id) {
         return userService.getUserById(id);
@@ -36,6 +57,12 @@ public class UserController {
         return userService.getUserByUsername(username);
     }
 
+    // 仅供 auth-service 登录校验：须带 scope user.credentials 的服务令牌，gateway 也不对外转发
+    @GetMapping("/credentials")
+    public Result getCredentials(@RequestParam String username) {
+        return userService.getCredentialsByUsername(username);
+    }
+
     // 获取已支付订单
     @GetMapping("/payedorder")
     public ResponseEntity<Result> getPayedOrder(@AuthenticationPrincipal Jwt jwt) {
@@ -48,8 +75,8 @@ public class UserController {
         if (userId == null) {
             return ResponseEntity.status(404).body(Result.error("用户不存在"));
         }
-        List<?> orders = userService.getPayedOrder(userId);
-        return ResponseEntity.ok(Result.success(orders));
+        Result<List<OrderInfo>> orders = userService.getPayedOrder(userId);
+        return orders.isSuccess() ? ResponseEntity.ok(orders) : ResponseEntity.status(503).body(orders);
     }
 
     // 获取未支付订单
@@ -63,7 +90,7 @@ public class UserController {
         if (userId == null) {
             return ResponseEntity.status(404).body(Result.error("用户不存在"));
         }
-        List<?> orders = userService.getUnpayOrder(userId);
-        return ResponseEntity.ok(Result.success(orders));
+        Result<List<OrderInfo>> orders = userService.getUnpayOrder(userId);
+        return orders.isSuccess() ? ResponseEntity.ok(orders) : ResponseEntity.status(503).body(orders);
     }
 } 
\ No newline at end of file
@@ -1,10 +1,23 @@
 package com.example.user.dao;
 
 import com.example.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface UserDAO extends JpaRepository<User, Long> {
     User findByUsername(String username);
-} 
\ No newline at end of file
+
+    // 只查用户名，用于重建用户名布隆过滤器
+    @Query("select u.username from User u order by u.id")
+    List<String> findUsernames(Pageable pageable);
+
+    // 批量导入时按批查询已存在的用户名
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+}
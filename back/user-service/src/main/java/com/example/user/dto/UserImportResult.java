@@ -0,0 +1,49 @@
+package com.example.user.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量导入结果：汇总数量及逐行错误（错误过多时只保留前若干条）
+ */
+public class UserImportResult {
+    private int total;
+    private int imported;
+    private int failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    public static class RowError {
+        private long line;
+        private String username;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String username, String message) {
+            this.line = line;
+            this.username = username;
+            this.message = message;
+        }
+
+        // getter/setter
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
+    // getter/setter
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+}
@@ -0,0 +1,26 @@
+package com.example.user.feign;
+
+import com.example.common.Result;
+import com.example.common.dto.BusinessInfo;
+import com.example.common.dto.CommodityInfo;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+// business-service 熔断、限流或超时时快速失败
+@Component
+public class BusinessFeignClientFallbackFactory implements FallbackFactory<BusinessFeignClient> {
+    @Override
+    public BusinessFeignClient create(Throwable cause) {
+        return new BusinessFeignClient() {
+            @Override
+            public Result<BusinessInfo> getBusinessById(Long id) {
+                return Result.error("商家服务繁忙，请稍后重试");
+            }
+
+            @Override
+            public Result<CommodityInfo> getCommodityById(Long id) {
+                return Result.error("商品服务繁忙，请稍后重试");
+            }
+        };
+    }
+}
@@ -1,20 +1,18 @@
 package com.example.user.feign;
 
 import com.example.common.Result;
+import com.example.common.dto.OrderInfo;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import java.util.List;
-import java.util.Map;
 
-@FeignClient(name = "order-service")
+@FeignClient(name = "order-service", fallbackFactory = OrderFeignClientFallbackFactory.class)
 public interface OrderFeignClient {
+    // fields: 需要返回的字段，逗号分隔
     @GetMapping("/order/payedorder")
-    Result getPayedOrderByUserId(@RequestParam("userId") Long userId);
+    Result<List<OrderInfo>> getPayedOrderByUserId(@RequestParam("userId") Long userId, @RequestParam("fields") String fields);
 
     @GetMapping("/order/unpayorder")
-    Result getUnpayOrderByUserId(@RequestParam("userId") Long userId);
-
-    @GetMapping("/order/items")
-    List<Map<String, Object>> getOrderItemsByOrderId(@RequestParam("orderId") Long orderId);
-} 
\ No newline at end of file
+    Result<List<OrderInfo>> getUnpayOrderByUserId(@RequestParam("userId") Long userId, @RequestParam("fields") String fields);
+}
@@ -0,0 +1,27 @@
+package com.example.user.feign;
+
+import com.example.common.Result;
+import com.example.common.dto.OrderInfo;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// order-service 熔断、限流或超时时快速失败
+@Component
+public class OrderFeignClientFallbackFactory implements FallbackFactory<OrderFeignClient> {
+    @Override
+    public OrderFeignClient create(Throwable cause) {
+        return new OrderFeignClient() {
+            @Override
+            public Result<List<OrderInfo>> getPayedOrderByUserId(Long userId, String fields) {
+                return Result.error("订单服务繁忙，请稍后重试");
+            }
+
+            @Override
+            public Result<List<OrderInfo>> getUnpayOrderByUserId(Long userId, String fields) {
+                return Result.error("订单服务繁忙，请稍后重试");
+            }
+        };
+    }
+}
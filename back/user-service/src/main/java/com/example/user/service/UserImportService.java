@@ -0,0 +1,271 @@
+package com.example.user.service;
+
+import com.example.user.cache.UserCache;
+import com.example.user.cache.UsernameBloomFilter;
+import com.example.user.dao.UserDAO;
+import com.example.user.dto.UserDTO;
+import com.example.user.dto.UserImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 用户批量导入：逐行读取 NDJSON / CSV，校验后按批去重并用 JDBC 批量插入，
+ * 整个过程只在内存中保留一个批次，返回逐行错误报告。
+ */
+@Service
+public class UserImportService {
+    private static final Logger log = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String INSERT_SQL =
+            "insert into `user` (username, password, address, phoneNumber, token) values (?, ?, ?, ?, ?)";
+    private static final String[] DEFAULT_CSV_COLUMNS = {"username", "password", "address", "phoneNumber"};
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UsernameBloomFilter usernameBloomFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.import.max-errors:1000}")
+    private int maxErrors;
+
+    // 写操作直接走主库，绕过读写分离路由；每批在主库的一个事务中写入
+    public UserImportService(@Qualifier("masterDataSource") DataSource masterDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(masterDataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(masterDataSource));
+    }
+
+    public UserImportResult importNdjson(Reader reader) throws IOException {
+        UserImportResult result = new UserImportResult();
+        List<Row> batch = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        long lineNo = 0;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            UserDTO dto;
+            try {
+                dto = objectMapper.readValue(line, UserDTO.class);
+            } catch (IOException e) {
+                result.setTotal(result.getTotal() + 1);
+                fail(result, lineNo, null, "JSON 格式错误");
+                continue;
+            }
+            accept(result, batch, new Row(lineNo, dto));
+        }
+        flush(result, batch);
+        return result;
+    }
+
+    // 首行为表头时按列名取值，否则按 username,password,address,phoneNumber 的顺序
+    public UserImportResult importCsv(Reader reader) throws IOException {
+        UserImportResult result = new UserImportResult();
+        List<Row> batch = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+        String[] columns = DEFAULT_CSV_COLUMNS;
+        String line;
+        long lineNo = 0;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            List<String> fields = parseCsvLine(line);
+            if (lineNo == 1 && fields.contains("username")) {
+                columns = fields.toArray(new String[0]);
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < columns.length && i < fields.size(); i++) {
+                values.put(columns[i], fields.get(i));
+            }
+            UserDTO dto = new UserDTO();
+            dto.setUsername(values.get("username"));
+            dto.setPassword(values.get("password"));
+            dto.setAddress(values.get("address"));
+            dto.setPhoneNumber(values.get("phoneNumber"));
+            accept(result, batch, new Row(lineNo, dto));
+        }
+        flush(result, batch);
+        return result;
+    }
+
+    private void accept(UserImportResult result, List<Row> batch, Row row) {
+        result.setTotal(result.getTotal() + 1);
+        String error = userService.validate(row.user);
+        if (error != null) {
+            fail(result, row.line, row.user.getUsername(), error);
+            return;
+        }
+        batch.add(row);
+        if (batch.size() >= batchSize) {
+            flush(result, batch);
+        }
+    }
+
+    private void flush(UserImportResult result, List<Row> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 批内去重，同时收集布隆过滤器判定可能已存在的用户名，只对这部分查库
+        Set<String> seen = new HashSet<>();
+        Set<String> maybeExisting = new HashSet<>();
+        List<Row> unique = new ArrayList<>();
+        for (Row row : batch) {
+            String username = row.user.getUsername();
+            if (!seen.add(username)) {
+                fail(result, row.line, username, "用户名在导入数据中重复");
+                continue;
+            }
+            if (usernameBloomFilter.mightExist(username)) {
+                maybeExisting.add(username);
+            }
+            unique.add(row);
+        }
+        Set<String> existing = maybeExisting.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(userDAO.findExistingUsernames(maybeExisting));
+        List<Row> toInsert = new ArrayList<>();
+        for (Row row : unique) {
+            if (existing.contains(row.user.getUsername())) {
+                fail(result, row.line, row.user.getUsername(), "用户名已存在");
+            } else {
+                toInsert.add(row);
+            }
+        }
+        batch.clear();
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        List<String> inserted = new ArrayList<>();
+        try {
+            List<Object[]> args = new ArrayList<>();
+            for (Row row : toInsert) {
+                args.add(toArgs(row.user));
+            }
+            // 整批在一个事务中提交：驱动把批拆成多条语句时，任一行失败也会整批回滚，逐行重试不会把已写入的行误报为重复
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+            for (Row row : toInsert) {
+                inserted.add(row.user.getUsername());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 与并发注册撞上唯一索引时整批已回滚，逐行重试以定位出错的行
+            for (Row row : toInsert) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, toArgs(row.user));
+                    inserted.add(row.user.getUsername());
+                } catch (DataIntegrityViolationException ex) {
+                    fail(result, row.line, row.user.getUsername(), "用户名已存在");
+                } catch (DataAccessException ex) {
+                    fail(result, row.line, row.user.getUsername(), "写入失败");
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("批量写入用户失败, rows={}", toInsert.size(), e);
+            for (Row row : toInsert) {
+                fail(result, row.line, row.user.getUsername(), "写入失败");
+            }
+        }
+
+        for (String username : inserted) {
+            usernameBloomFilter.add(username);
+        }
+        userCache.evictUsernames(inserted);
+        result.setImported(result.getImported() + inserted.size());
+    }
+
+    private Object[] toArgs(UserDTO user) {
+        return new Object[]{user.getUsername(), user.getPassword(), user.getAddress(),
+                user.getPhoneNumber(), user.getToken()};
+    }
+
+    private void fail(UserImportResult result, long line, String username, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new UserImportResult.RowError(line, username, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    // 解析一行 CSV，支持双引号包裹的字段及 "" 转义，不支持字段内换行
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private static class Row {
+        private final long line;
+        private final UserDTO user;
+
+        Row(long line, UserDTO user) {
+            this.line = line;
+            this.user = user;
+        }
+    }
+}
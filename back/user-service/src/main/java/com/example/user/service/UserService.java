@@ -1,22 +1,22 @@
 package com.example.user.service;
 
+import com.example.user.cache.UserCache;
+import com.example.user.cache.UsernameBloomFilter;
 import com.example.user.dao.UserDAO;
 import com.example.user.dto.UserDTO;
 import com.example.user.entity.User;
 import com.example.common.Result;
+import com.example.common.dto.OrderInfo;
+import com.example.common.dto.UserCredentials;
 import com.example.user.feign.OrderFeignClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import java.util.Date;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
-
-import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import com.example.user.feign.BusinessFeignClient;
+import java.util.regex.Pattern;
 
 @Service
 public class UserService {
@@ -27,23 +27,24 @@ public class UserService {
     private OrderFeignClient orderFeignClient;
 
     @Autowired
-    private BusinessFeignClient businessFeignClient;
+    private UserCache userCache;
+
+    @Autowired
+    private UsernameBloomFilter usernameBloomFilter;
+
+    // 用户名、密码只能包含数字、字母和下划线
+    private static final Pattern ALLOWED_CHARS = Pattern.compile("^[a-zA-Z0-9_]+$");
 
-    @Transactional
+    // 不开启外层事务：唯一索引冲突时由 save 直接抛出，可在此处捕获并返回
+    @Timed(value = "user.service", extraTags = {"method", "register"}, histogram = true)
     public Result register(UserDTO userDTO) {
-        if (userDTO.getUsername() == null || userDTO.getUsername().trim().isEmpty()) {
-            return Result.error("用户名不能为空");
-        }
-        if (!userDTO.getUsername().matches("^[a-zA-Z0-9_]+$")) {
-            return Result.error("用户名只能包含数字、字母和下划线");
-        }
-        if (userDTO.getPassword() == null || userDTO.getPassword().trim().isEmpty()) {
-            return Result.error("密码不能为空");
+        String error = validate(userDTO);
+        if (error != null) {
+            return Result.error(error);
         }
-        if (!userDTO.getPassword().matches("^[a-zA-Z0-9_]+$")) {
-            return Result.error("密码只能包含数字、字母和下划线");
-        }
-        if (userDAO.findByUsername(userDTO.getUsername()) != null) {
+        // 布隆过滤器判定不存在时跳过查库
+        if (usernameBloomFilter.mightExist(userDTO.getUsername())
+                && userDAO.findByUsername(userDTO.getUsername()) != null) {
             return Result.error("用户名已存在");
         }
         User user = new User();
@@ -52,118 +53,80 @@ public class UserService {
         user.setAddress(userDTO.getAddress());
         user.setPhoneNumber(userDTO.getPhoneNumber());
         user.setToken(userDTO.getToken());
-        userDAO.save(user);
+        try {
+            userDAO.save(user);
+        } catch (DataIntegrityViolationException e) {
+            return Result.error("用户名已存在");
+        }
+        usernameBloomFilter.add(user.getUsername());
+        userCache.put(user);
         return Result.success("注册成功");
     }
 
+    // 校验注册信息，通过时返回 null，否则返回错误信息
+    public String validate(UserDTO userDTO) {
+        if (userDTO.getUsername() == null || userDTO.getUsername().trim().isEmpty()) {
+            return "用户名不能为空";
+        }
+        if (!ALLOWED_CHARS.matcher(userDTO.getUsername()).matches()) {
+            return "用户名只能包含数字、字母和下划线";
+        }
+        if (userDTO.getPassword() == null || userDTO.getPassword().trim().isEmpty()) {
+            return "密码不能为空";
+        }
+        if (!ALLOWED_CHARS.matcher(userDTO.getPassword()).matches()) {
+            return "密码只能包含数字、字母和下划线";
+        }
+        return null;
+    }
+
     public Result getUserById(Long id) {
-        User user = userDAO.findById(id).orElse(null);
+        User user = userCache.getById(id);
         return user != null ? Result.success(user) : Result.error("用户不存在");
     }
 
     public Result getUserByUsername(String username) {
-        User user = userDAO.findByUsername(username);
+        User user = userCache.getByUsername(username);
         return user != null ? Result.success(user) : Result.error("用户不存在");
     }
 
-    public Long getUserIdByUsername(String username) {
+    // 登录校验用：缓存中的用户不含密码，直接查主库
+    // 只返回用户名与密码，不带用户的其它字段
+    public Result<UserCredentials> getCredentialsByUsername(String username) {
         User user = userDAO.findByUsername(username);
-        return user != null ? user.getId() : null;
+        return user != null ? Result.success(new UserCredentials(user.getUsername(), user.getPassword()))
+                : Result.error("用户不存在");
+    }
+
+    public Long getUserIdByUsername(String username) {
+        return userCache.getIdByUsername(username);
     }
 
     // 删除 getOrdersByUserId 方法，避免调用不存在的 FeignClient 方法
 
-    // 新增：获取已支付订单并补全详细信息
-    public List<Map<String, Object>> getPayedOrder(Long userId) {
-        Result result = orderFeignClient.getPayedOrderByUserId(userId);
-        List<Map<String, Object>> orders = null;
-        if (result != null && result.getData() instanceof List) {
-            orders = (List<Map<String, Object>>) result.getData();
-        } else {
-            orders = new ArrayList<>();
-        }
-        for (Map<String, Object> order : orders) {
-            // 补全商家名称
-            Object businessIdObj = order.get("businessId");
-            if (businessIdObj instanceof Number) {
-                Long businessId = ((Number) businessIdObj).longValue();
-                Map<String, Object> businessResp = businessFeignClient.getBusinessById(businessId);
-                System.out.println("businessResp: " + businessResp);
-                if (businessResp != null && businessResp.get("data") instanceof Map) {
-                    Map data = (Map) businessResp.get("data");
-                    System.out.println("data: " + data);
-                    order.put("businessName", data.get("name"));
-                    order.put("businessDeliveryFees", data.get("deliveryFees"));
-                }
-            }
-            // 无论原orderItemDTOs是否为空，都主动查明细
-            Long orderId = order.get("orderId") instanceof Number ? ((Number)order.get("orderId")).longValue() : null;
-            List<Map<String, Object>> items = new ArrayList<>();
-            if (orderId != null) {
-                items = orderFeignClient.getOrderItemsByOrderId(orderId);
-            }
-            for (Map<String, Object> item : items) {
-                Object commodityIdObj = item.get("commodityId");
-                if (commodityIdObj instanceof Number) {
-                    Long commodityId = ((Number) commodityIdObj).longValue();
-                    Map<String, Object> commodityResp = businessFeignClient.getCommodityById(commodityId);
-                    if (commodityResp != null && commodityResp.get("data") instanceof Map) {
-                        Map data = (Map) commodityResp.get("data");
-                        item.put("productName", data.get("commodityName"));
-                        item.put("commodityPrice", data.get("price"));
-                        item.put("image", data.get("image"));
-                    }
-                }
-            }
-            order.put("orderItemDTOs", items);
-        }
-        return orders;
+    // 订单页只渲染这些字段，商品图片等大字段不再跨服务传输
+    private static final String ORDER_FIELDS = "businessName,businessDeliveryFees,productName,commodityPrice";
+
+    // 获取已支付订单：order-service 已完成商家、商品信息的补全，这里不再重复查询
+    @Timed(value = "user.service", extraTags = {"method", "getPayedOrder"}, histogram = true)
+    public Result<List<OrderInfo>> getPayedOrder(Long userId) {
+        return toOrderList(orderFeignClient.getPayedOrderByUserId(userId, ORDER_FIELDS));
+    }
+
+    // 获取未支付订单
+    @Timed(value = "user.service", extraTags = {"method", "getUnpayOrder"}, histogram = true)
+    public Result<List<OrderInfo>> getUnpayOrder(Long userId) {
+        return toOrderList(orderFeignClient.getUnpayOrderByUserId(userId, ORDER_FIELDS));
     }
 
-    // 新增：获取未支付订单并补全详细信息
-    public List<Map<String, Object>> getUnpayOrder(Long userId) {
-        Result result = orderFeignClient.getUnpayOrderByUserId(userId);
-        List<Map<String, Object>> orders = null;
-        if (result != null && result.getData() instanceof List) {
-            orders = (List<Map<String, Object>>) result.getData();
-        } else {
-            orders = new ArrayList<>();
+    // order-service 降级或出错时原样返回错误，不当作“没有订单”
+    private Result<List<OrderInfo>> toOrderList(Result<List<OrderInfo>> result) {
+        if (result == null) {
+            return Result.error("订单服务不可用，请稍后重试");
         }
-        for (Map<String, Object> order : orders) {
-            // 补全商家名称
-            Object businessIdObj = order.get("businessId");
-            if (businessIdObj instanceof Number) {
-                Long businessId = ((Number) businessIdObj).longValue();
-                Map<String, Object> businessResp = businessFeignClient.getBusinessById(businessId);
-                System.out.println("businessResp: " + businessResp);
-                if (businessResp != null && businessResp.get("data") instanceof Map) {
-                    Map data = (Map) businessResp.get("data");
-                    System.out.println("data: " + data);
-                    order.put("businessName", data.get("name"));
-                    order.put("businessDeliveryFees", data.get("deliveryFees"));
-                }
-            }
-            // 无论原orderItemDTOs是否为空，都主动查明细
-            Long orderId = order.get("orderId") instanceof Number ? ((Number)order.get("orderId")).longValue() : null;
-            List<Map<String, Object>> items = new ArrayList<>();
-            if (orderId != null) {
-                items = orderFeignClient.getOrderItemsByOrderId(orderId);
-            }
-            for (Map<String, Object> item : items) {
-                Object commodityIdObj = item.get("commodityId");
-                if (commodityIdObj instanceof Number) {
-                    Long commodityId = ((Number) commodityIdObj).longValue();
-                    Map<String, Object> commodityResp = businessFeignClient.getCommodityById(commodityId);
-                    if (commodityResp != null && commodityResp.get("data") instanceof Map) {
-                        Map data = (Map) commodityResp.get("data");
-                        item.put("productName", data.get("commodityName"));
-                        item.put("commodityPrice", data.get("price"));
-                        item.put("image", data.get("image"));
-                    }
-                }
-            }
-            order.put("orderItemDTOs", items);
+        if (!result.isSuccess()) {
+            return result;
         }
-        return orders;
+        return Result.success(result.getData() != null ? result.getData() : new ArrayList<>());
     }
 } 
\ No newline at end of file
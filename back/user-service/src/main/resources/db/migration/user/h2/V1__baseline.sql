@@ -0,0 +1,11 @@
+-- 与 mysql/V1__baseline.sql 相同的表结构，H2 只用于本地压测与测试
+CREATE TABLE IF NOT EXISTS `user` (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    address     VARCHAR(255),
+    password    VARCHAR(255),
+    phoneNumber VARCHAR(255),
+    token       VARCHAR(255),
+    username    VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username)
+);
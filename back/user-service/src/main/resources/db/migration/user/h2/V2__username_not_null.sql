@@ -0,0 +1,2 @@
+-- 与 mysql/V2__username_not_null.sql 相同的变更
+ALTER TABLE `user` ALTER COLUMN username SET NOT NULL;
@@ -0,0 +1,5 @@
+-- 与 mysql/V3__username_unique.sql 相同的变更
+UPDATE `user` u SET username = CONCAT(username, '__dup_', id)
+WHERE id > (SELECT MIN(x.id) FROM `user` x WHERE x.username = u.username);
+
+ALTER TABLE `user` ADD CONSTRAINT IF NOT EXISTS uk_user_username UNIQUE (username);
@@ -0,0 +1,11 @@
+-- 与之前 hbm2ddl 建出的表一致；已有表的库按版本 0 基线化后执行本脚本不会改动已有表
+CREATE TABLE IF NOT EXISTS `user` (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    address     VARCHAR(255),
+    password    VARCHAR(255),
+    phoneNumber VARCHAR(255),
+    token       VARCHAR(255),
+    username    VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username)
+);
@@ -0,0 +1,2 @@
+-- 登录、注册按用户名查询（UserDAO.findByUsername）走唯一索引 uk_user_username；用户名不允许为空
+ALTER TABLE `user` MODIFY COLUMN username VARCHAR(255) NOT NULL;
@@ -0,0 +1,15 @@
+-- 基线化为版本 0 的旧库不执行 V1，唯一索引 uk_user_username 可能不存在（早于实体声明该约束时由 hbm2ddl 建的表）
+-- 先处理重名：同名用户保留 id 最小的一个，其余改为 {username}__dup_{id}，需人工核对后通知用户
+UPDATE `user` u
+JOIN (SELECT username, MIN(id) AS keep_id FROM `user` GROUP BY username HAVING COUNT(*) > 1) d
+    ON u.username = d.username AND u.id <> d.keep_id
+SET u.username = CONCAT(u.username, '__dup_', u.id);
+
+-- username 上还没有唯一索引时才建，MySQL 不支持 ADD CONSTRAINT IF NOT EXISTS
+SET @has_unique = (SELECT COUNT(*) FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = 'user'
+                     AND column_name = 'username' AND non_unique = 0);
+SET @ddl = IF(@has_unique = 0, 'ALTER TABLE `user` ADD CONSTRAINT uk_user_username UNIQUE (username)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -57,7 +57,7 @@ describe('Business.vue', () => {
     vi.clearAllMocks()
     // 设置fetch的默认返回值
     mockFetch.mockResolvedValue({
-      json: () => Promise.resolve(mockBusinesses)
+      json: () => Promise.resolve({ data: mockBusinesses })
     })
   })
 
@@ -76,7 +76,7 @@ describe('Business.vue', () => {
     it('应该在挂载时调用getBusinessList', async () => {
       const wrapper = mountComponent()
       await flushPromises()
-      expect(mockFetch).toHaveBeenCalledWith('/api/business/list')
+      expect(mockFetch).toHaveBeenCalledWith('http://localhost:80/api/business/list?page=0&size=20')
     })
 
     it('应该正确处理API返回的数据', async () => {
@@ -226,7 +226,7 @@ describe('Business.vue', () => {
       }]
       
       mockFetch.mockResolvedValueOnce({
-        json: () => Promise.resolve(newBusinesses)
+        json: () => Promise.resolve({ data: newBusinesses })
       })
       
       await wrapper.vm.getBusinessList()
@@ -291,7 +291,7 @@ describe('Business.vue', () => {
     // 完成加载
     resolvePromise?.({
       ok: true,
-      json: () => Promise.resolve(mockBusinesses)
+      json: () => Promise.resolve({ data: mockBusinesses })
     })
     
     await loadPromise
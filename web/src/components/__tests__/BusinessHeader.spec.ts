@@ -24,18 +24,16 @@ describe('BusinessHeader.vue', () => {
   })
 
   it('应该正确获取并显示商家信息', async () => {
-    const mockBusinessData = [
-      {
-        id: 1,
-        businessName: '测试商家1',
-        image: 'base64image1',
-        description: '测试描述1',
-        score: 4.5,
-        deliveryFees: 5,
-        miniDeliveryFee: 20,
-        monthSold: 15000
-      }
-    ]
+    const mockBusinessData = {
+      id: 1,
+      businessName: '测试商家1',
+      image: 'base64image1',
+      description: '测试描述1',
+      score: 4.5,
+      deliveryFees: 5,
+      miniDeliveryFee: 20,
+      monthSold: 15000
+    }
 
     ;(fetch as any).mockResolvedValueOnce({
       ok: true,
@@ -62,18 +60,16 @@ describe('BusinessHeader.vue', () => {
   })
 
   it('应该正确处理图片base64转换', async () => {
-    const mockBusinessData = [
-      {
-        id: 1,
-        businessName: '测试商家1',
-        image: 'base64image1',
-        description: '测试描述1',
-        score: 4.5,
-        deliveryFees: 5,
-        miniDeliveryFee: 20,
-        monthSold: 15000
-      }
-    ]
+    const mockBusinessData = {
+      id: 1,
+      businessName: '测试商家1',
+      image: 'base64image1',
+      description: '测试描述1',
+      score: 4.5,
+      deliveryFees: 5,
+      miniDeliveryFee: 20,
+      monthSold: 15000
+    }
 
     ;(fetch as any).mockResolvedValueOnce({
       ok: true,
@@ -98,18 +94,16 @@ describe('BusinessHeader.vue', () => {
   })
 
   it('应该正确格式化月销量', async () => {
-    const mockBusinessData = [
-      {
-        id: 1,
-        businessName: '测试商家1',
-        image: 'base64image1',
-        description: '测试描述1',
-        score: 4.5,
-        deliveryFees: 5,
-        miniDeliveryFee: 20,
-        monthSold: 15000
-      }
-    ]
+    const mockBusinessData = {
+      id: 1,
+      businessName: '测试商家1',
+      image: 'base64image1',
+      description: '测试描述1',
+      score: 4.5,
+      deliveryFees: 5,
+      miniDeliveryFee: 20,
+      monthSold: 15000
+    }
 
     ;(fetch as any).mockResolvedValueOnce({
       ok: true,
@@ -150,7 +144,7 @@ describe('BusinessHeader.vue', () => {
   })
 
   it('应该处理商家ID不存在的情况', async () => {
-    const mockBusinessData = []
+    const mockBusinessData = null
 
     ;(fetch as any).mockResolvedValueOnce({
       ok: true,
@@ -173,7 +167,7 @@ describe('BusinessHeader.vue', () => {
   })
 
   it('应该处理未找到商家的情况', async () => {
-    const mockBusinessData = []
+    const mockBusinessData = null
 
     ;(fetch as any).mockResolvedValueOnce({
       ok: true,
@@ -196,18 +190,16 @@ describe('BusinessHeader.vue', () => {
   })
 
   it('应该正确处理商家信息更新', async () => {
-    const mockBusinessData = [
-      {
-        id: 1,
-        businessName: '测试商家1',
-        image: 'base64image1',
-        description: '测试描述1',
-        score: 4.5,
-        deliveryFees: 5,
-        miniDeliveryFee: 20,
-        monthSold: 15000
-      }
-    ]
+    const mockBusinessData = {
+      id: 1,
+      businessName: '测试商家1',
+      image: 'base64image1',
+      description: '测试描述1',
+      score: 4.5,
+      deliveryFees: 5,
+      miniDeliveryFee: 20,
+      monthSold: 15000
+    }
 
     ;(fetch as any).mockResolvedValueOnce({
       ok: true,
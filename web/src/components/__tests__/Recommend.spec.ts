@@ -127,7 +127,7 @@ describe('Recommend.vue', () => {
     await wrapper.vm.$nextTick()
 
     // 验证API是否被调用
-    expect(mockFetch).toHaveBeenCalledWith('/api/business/list')
+    expect(mockFetch).toHaveBeenCalledWith('http://localhost:80/api/business/list?page=0&size=20')
 
     // 验证推荐商家列表渲染
     const businessItems = wrapper.findAll('.business-list-item')